@@ -0,0 +1,71 @@
+package org.hibernate.test.liberty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/// Collects the measurements of a benchmark as rows and, on [#close()],
+/// appends them to `build/benchmarks/{name}.csv` and echoes them to stdout.
+///
+/// Rows are appended so that the separate instances of a parameterized
+/// benchmark (one per scale point, e.g.) accumulate into a single file which
+/// can be plotted directly.  The `benchmark` task clears the directory first.
+public class BenchmarkReport implements AutoCloseable {
+	private final String name;
+	private final List<String> columns;
+	private final List<List<Object>> rows = new ArrayList<>();
+
+	public BenchmarkReport(String name, String... columns) {
+		this.name = name;
+		this.columns = List.of( columns );
+	}
+
+	public void row(Object... values) {
+		if ( values.length != columns.size() ) {
+			throw new IllegalArgumentException( "Expecting " + columns.size() + " values for " + columns + " but got " + values.length );
+		}
+		rows.add( List.of( values ) );
+	}
+
+	@Override
+	public void close() {
+		final Path file = Benchmarks.OUTPUT_DIR.resolve( name + ".csv" );
+		try {
+			Files.createDirectories( file.getParent() );
+			final boolean exists = Files.exists( file );
+			final List<String> lines = new ArrayList<>();
+			if ( !exists ) {
+				lines.add( String.join( ",", columns ) );
+			}
+			rows.forEach( (row) -> lines.add( format( row ) ) );
+			Files.write( file, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Unable to write benchmark report " + file, e );
+		}
+
+		System.out.println( "[" + name + "] " + String.join( ", ", columns ) );
+		rows.forEach( (row) -> System.out.println( "[" + name + "] " + format( row ) ) );
+	}
+
+	private static String format(List<Object> row) {
+		return row.stream().map( BenchmarkReport::format ).collect( Collectors.joining( "," ) );
+	}
+
+	private static String format(Object value) {
+		if ( value instanceof Double || value instanceof Float ) {
+			return String.format( Locale.ROOT, "%.3f", ( (Number) value ).doubleValue() );
+		}
+		final String text = String.valueOf( value );
+		return Stream.of( ",", "\"", "\n" ).anyMatch( text::contains )
+				? '"' + text.replace( "\"", "\"\"" ) + '"'
+				: text;
+	}
+}
@@ -0,0 +1,114 @@
+package org.hibernate.test.liberty;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/// Support for the [#TAG benchmark] tests, which are excluded from the normal
+/// `test` task and instead run via `./gradlew benchmark`.
+///
+/// Tunables are read from system properties (`-Pliberty.*` on the Gradle
+/// command line) so that the same test can be run at very different sizes.
+public final class Benchmarks {
+	/// JUnit tag applied to all benchmark tests
+	public static final String TAG = "benchmark";
+
+	/// Directory into which [BenchmarkReport] writes its files
+	public static final Path OUTPUT_DIR = Path.of( "build", "benchmarks" );
+
+	/// Number of measured iterations per scenario
+	public static final String ITERATIONS = "liberty.iterations";
+
+	/// Elapsed time and bytes allocated by the current thread, of a single run or the
+	/// medians of several
+	public record Measurement(long nanos, long bytes) {
+	}
+
+	private Benchmarks() {
+	}
+
+	public static int iterations() {
+		return intValue( ITERATIONS, 5 );
+	}
+
+	public static int intValue(String property, int defaultValue) {
+		final String value = System.getProperty( property );
+		return value == null || value.isBlank() ? defaultValue : Integer.parseInt( value.trim() );
+	}
+
+	public static double doubleValue(String property, double defaultValue) {
+		final String value = System.getProperty( property );
+		return value == null || value.isBlank() ? defaultValue : Double.parseDouble( value.trim() );
+	}
+
+	public static boolean booleanValue(String property, boolean defaultValue) {
+		final String value = System.getProperty( property );
+		return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean( value.trim() );
+	}
+
+	/// Comma-separated list of integers, e.g. `-Pliberty.scales=1000,10000`
+	public static List<Integer> intList(String property, String defaultValue) {
+		return Arrays.stream( System.getProperty( property, defaultValue ).split( "," ) )
+				.map( String::trim )
+				.filter( (value) -> !value.isEmpty() )
+				.map( Integer::valueOf )
+				.toList();
+	}
+
+	/// Runs the action, returning the elapsed time in nanoseconds
+	public static long time(Runnable action) {
+		final long start = System.nanoTime();
+		action.run();
+		return System.nanoTime() - start;
+	}
+
+	/// Runs the action, returning the number of bytes allocated by the current thread
+	public static long allocation(Runnable action) {
+		final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long start = threadMXBean.getCurrentThreadAllocatedBytes();
+		action.run();
+		return threadMXBean.getCurrentThreadAllocatedBytes() - start;
+	}
+
+	/// Runs the action once as warm-up and then [#iterations()] times, returning the
+	/// medians of its elapsed time and of the bytes allocated by the current thread
+	public static Measurement measure(Runnable action) {
+		final long[] times = new long[iterations()];
+		final long[] allocations = new long[times.length];
+		for ( int i = -1; i < times.length; i++ ) {
+			final Measurement sample = measureOnce( action );
+			if ( i >= 0 ) {
+				times[i] = sample.nanos();
+				allocations[i] = sample.bytes();
+			}
+		}
+		Arrays.sort( times );
+		Arrays.sort( allocations );
+		return new Measurement( percentile( times, 50 ), percentile( allocations, 50 ) );
+	}
+
+	/// Runs the action a single time, without warm-up, for actions which cannot be
+	/// repeated (e.g. inserting a fixed set of rows)
+	public static Measurement measureOnce(Runnable action) {
+		final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long allocationStart = threadMXBean.getCurrentThreadAllocatedBytes();
+		final long start = System.nanoTime();
+		action.run();
+		final long time = System.nanoTime() - start;
+		return new Measurement( time, threadMXBean.getCurrentThreadAllocatedBytes() - allocationStart );
+	}
+
+	public static double millis(long nanos) {
+		return nanos / 1_000_000d;
+	}
+
+	/// The value at the given percentile (0-100) of already sorted values
+	public static long percentile(long[] sorted, double percentile) {
+		if ( sorted.length == 0 ) {
+			return 0;
+		}
+		final int index = (int) Math.ceil( percentile / 100d * sorted.length ) - 1;
+		return sorted[Math.max( 0, Math.min( sorted.length - 1, index ) )];
+	}
+}
@@ -0,0 +1,29 @@
+package org.hibernate.test.liberty;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+
+import org.jboss.logging.Logger;
+
+/// Runs the [BindingTypeAnalyzer] as the SessionFactory is built, logging any
+/// mismatches - or failing the bootstrap when [BindingTypeAnalyzer#STRICT] is enabled.
+public class BindingCheckIntegrator implements Integrator {
+	private static final Logger LOG = Logger.getLogger( BindingCheckIntegrator.class );
+
+	@Override
+	public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+		final ConfigurationService configurationService = sessionFactory.getServiceRegistry().requireService( ConfigurationService.class );
+		final BindingTypeAnalyzer analyzer = new BindingTypeAnalyzer( metadata, configurationService.getSettings() );
+
+		if ( configurationService.getSetting( BindingTypeAnalyzer.STRICT, StandardConverters.BOOLEAN, false ) ) {
+			analyzer.verify();
+		}
+		else {
+			analyzer.analyze().forEach( (mismatch) -> LOG.warn( mismatch ) );
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package org.hibernate.test.liberty;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IndexedCollection;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.ToOne;
+import org.hibernate.mapping.Value;
+import org.hibernate.type.SqlTypes;
+
+/// Checks, for SQL Server, that the type a value is bound as matches its column
+/// type, for basic attributes, foreign keys and the columns of collection tables.
+///
+/// When a parameter has a higher data type precedence than the column it is
+/// compared with (e.g. an `nvarchar` parameter against a `varchar` column, or
+/// `datetime2` against `datetime`) SQL Server converts the *column*, which turns
+/// index seeks into scans.  The bound type depends not only on the
+/// [BasicValue.Resolution]'s JDBC type but also on driver settings, most notably
+/// `sendStringParametersAsUnicode` (default `true`), `sendTimeAsDatetime`
+/// (default `true`) and `datetimeParameterType` (default `datetime2`), which are
+/// read from the connection URL or `hibernate.connection.*` properties.
+///
+/// @see BindingCheckIntegrator
+public class BindingTypeAnalyzer {
+	/// Setting to fail, rather than warn, on a mismatch
+	public static final String STRICT = "liberty.binding_check.strict";
+
+	/// SQL Server data type precedence, lowest first, of the types prone to implicit conversion
+	private static final List<String> STRING_PRECEDENCE = List.of( "char", "varchar", "nchar", "nvarchar", "text", "ntext" );
+	private static final List<String> TEMPORAL_PRECEDENCE = List.of( "time", "date", "smalldatetime", "datetime", "datetime2", "datetimeoffset" );
+
+	/// A column and the SQL Server type of the parameters bound against it, `null` if
+	/// not prone to implicit conversion
+	public record Binding(String entityName, String attribute, String column, String columnType, String parameterType) {
+	}
+
+	public record Mismatch(String entityName, String attribute, String column, String columnType, String parameterType) {
+		@Override
+		public String toString() {
+			return entityName + "." + attribute + " (" + column + " " + columnType + ") is bound as " + parameterType
+					+ ", forcing conversion of the column";
+		}
+	}
+
+	private final Metadata metadata;
+	private final boolean unicodeStrings;
+	private final boolean timeAsDatetime;
+	private final String datetimeType;
+
+	public BindingTypeAnalyzer(Metadata metadata, Map<String, Object> settings) {
+		this.metadata = metadata;
+		this.unicodeStrings = Boolean.parseBoolean( driverSetting( settings, "sendStringParametersAsUnicode", "true" ) );
+		this.timeAsDatetime = Boolean.parseBoolean( driverSetting( settings, "sendTimeAsDatetime", "true" ) );
+		this.datetimeType = driverSetting( settings, "datetimeParameterType", "datetime2" ).toLowerCase( Locale.ROOT );
+	}
+
+	public List<Mismatch> analyze() {
+		return bindings().stream()
+				.filter( (binding) -> binding.parameterType() != null
+						&& convertsColumn( binding.parameterType(), baseType( binding.columnType() ) ) )
+				.map( (binding) -> new Mismatch(
+						binding.entityName(),
+						binding.attribute(),
+						binding.column(),
+						binding.columnType(),
+						binding.parameterType()
+				) )
+				.toList();
+	}
+
+	/// Like [#analyze()], but throws a [MappingException] if there are mismatches
+	public void verify() {
+		final List<Mismatch> mismatches = analyze();
+		if ( !mismatches.isEmpty() ) {
+			throw new MappingException( "Parameter bindings would force implicit conversion of columns:\n\t"
+					+ mismatches.stream().map( Mismatch::toString ).collect( Collectors.joining( "\n\t" ) ) );
+		}
+	}
+
+	/// The columns of all basic attributes (including those of embeddables), foreign
+	/// keys of to-one associations, and collection keys, indexes and elements.  A
+	/// foreign key column is bound with the type of the column it references.
+	public List<Binding> bindings() {
+		final List<Binding> bindings = new ArrayList<>();
+		if ( metadata.getDatabase().getDialect() instanceof SQLServerDialect ) {
+			for ( PersistentClass entityBinding : metadata.getEntityBindings() ) {
+				if ( entityBinding.getIdentifierProperty() != null ) {
+					analyze( entityBinding.getEntityName(), entityBinding.getIdentifierProperty().getName(), entityBinding.getIdentifier(), bindings );
+				}
+				for ( Property property : entityBinding.getPropertyClosure() ) {
+					analyze( entityBinding.getEntityName(), property.getName(), property.getValue(), bindings );
+				}
+			}
+			for ( Collection collection : metadata.getCollectionBindings() ) {
+				final String owner = collection.getOwnerEntityName();
+				final String attribute = collection.getRole().substring( owner.length() + 1 );
+				final PersistentClass ownerBinding = collection.getOwner();
+				final Value ownerKey = collection.getReferencedPropertyName() == null
+						? ownerBinding.getIdentifier()
+						: ownerBinding.getReferencedProperty( collection.getReferencedPropertyName() ).getValue();
+				foreignKey( owner, attribute + ".{key}", collection.getKey(), ownerKey, bindings );
+				if ( collection instanceof IndexedCollection indexedCollection ) {
+					analyze( owner, attribute + ".{index}", indexedCollection.getIndex(), bindings );
+				}
+				// the element of a one-to-many has no columns in the collection table
+				analyze( owner, attribute + ".{element}", collection.getElement(), bindings );
+			}
+		}
+		return bindings;
+	}
+
+	private void analyze(String entityName, String attribute, Value value, List<Binding> bindings) {
+		if ( value instanceof Component component ) {
+			for ( Property subProperty : component.getProperties() ) {
+				analyze( entityName, attribute + "." + subProperty.getName(), subProperty.getValue(), bindings );
+			}
+		}
+		else if ( value instanceof ToOne toOne ) {
+			final PersistentClass target = metadata.getEntityBinding( toOne.getReferencedEntityName() );
+			final Value targetKey = toOne.getReferencedPropertyName() == null
+					? target.getIdentifier()
+					: target.getReferencedProperty( toOne.getReferencedPropertyName() ).getValue();
+			foreignKey( entityName, attribute, toOne, targetKey, bindings );
+		}
+		else if ( value instanceof BasicValue basicValue ) {
+			final String parameterType = parameterType( basicValue.resolve().getJdbcType().getJdbcTypeCode() );
+			for ( Column column : basicValue.getColumns() ) {
+				bindings.add( new Binding( entityName, attribute, column.getName(), column.getSqlType( metadata ), parameterType ) );
+			}
+		}
+	}
+
+	/// The columns of `foreignKey`, bound like the columns of `referenced` in the same position
+	private void foreignKey(String entityName, String attribute, Value foreignKey, Value referenced, List<Binding> bindings) {
+		final List<Binding> referencedBindings = new ArrayList<>();
+		analyze( entityName, attribute, referenced, referencedBindings );
+		final List<Column> columns = foreignKey.getColumns();
+		for ( int i = 0; i < columns.size() && i < referencedBindings.size(); i++ ) {
+			final Column column = columns.get( i );
+			bindings.add( new Binding(
+					entityName,
+					attribute,
+					column.getName(),
+					column.getSqlType( metadata ),
+					referencedBindings.get( i ).parameterType()
+			) );
+		}
+	}
+
+	/// The SQL Server type the driver sends for a parameter of the given JDBC type
+	private String parameterType(int jdbcTypeCode) {
+		return switch ( jdbcTypeCode ) {
+			case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.CLOB -> unicodeStrings ? "nvarchar" : "varchar";
+			case Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR, Types.NCLOB -> "nvarchar";
+			case Types.TIMESTAMP -> datetimeType;
+			// Instant and the like are bound as OffsetDateTime
+			case Types.TIMESTAMP_WITH_TIMEZONE, SqlTypes.TIMESTAMP_UTC -> "datetimeoffset";
+			case Types.TIME -> timeAsDatetime ? "datetime" : "time";
+			case Types.DATE -> "date";
+			default -> null;
+		};
+	}
+
+	private static boolean convertsColumn(String parameterType, String columnType) {
+		return higherPrecedence( STRING_PRECEDENCE, parameterType, columnType )
+				|| higherPrecedence( TEMPORAL_PRECEDENCE, parameterType, columnType );
+	}
+
+	private static boolean higherPrecedence(List<String> precedence, String parameterType, String columnType) {
+		final int parameterRank = precedence.indexOf( parameterType );
+		final int columnRank = precedence.indexOf( columnType );
+		return parameterRank >= 0 && columnRank >= 0 && parameterRank > columnRank;
+	}
+
+	private static String baseType(String columnType) {
+		final int paren = columnType.indexOf( '(' );
+		return ( paren < 0 ? columnType : columnType.substring( 0, paren ) ).trim().toLowerCase( Locale.ROOT );
+	}
+
+	/// Driver connection property, as either a `hibernate.connection.*` setting or part of the URL
+	private static String driverSetting(Map<String, Object> settings, String name, String defaultValue) {
+		final Object explicit = settings.get( "hibernate.connection." + name );
+		if ( explicit != null ) {
+			return explicit.toString();
+		}
+
+		Object url = settings.get( JdbcSettings.JAKARTA_JDBC_URL );
+		if ( url == null ) {
+			url = settings.get( JdbcSettings.URL );
+		}
+		if ( url != null ) {
+			for ( String part : url.toString().split( ";" ) ) {
+				final int equals = part.indexOf( '=' );
+				if ( equals > 0 && part.substring( 0, equals ).trim().equalsIgnoreCase( name ) ) {
+					return part.substring( equals + 1 ).trim();
+				}
+			}
+		}
+		return defaultValue;
+	}
+}
@@ -0,0 +1,154 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.MappingException;
+import org.hibernate.cfg.JdbcSettings;
+
+import org.hibernate.testing.orm.junit.BootstrapServiceRegistry;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/// Parameter binding types versus column types, see [BindingTypeAnalyzer].
+///
+/// Relates to id 3 (DateTypeTests) as well as `sp_count_books`'s `@author varchar`
+/// parameter - by default the SQL Server driver sends strings as `nvarchar`, so
+/// every String attribute mapped to a `varchar` column is compared via an implicit
+/// conversion of the column.
+@DomainModel(annotatedClasses = {
+		Book.class,
+		DateTypeTests.TheEntity.class,
+		BindingTypeTests.Library.class,
+		BindingTypeTests.Loan.class
+})
+@BootstrapServiceRegistry(integrators = BindingCheckIntegrator.class)
+@SessionFactory
+public class BindingTypeTests {
+	@Test
+	void testDefaultDriverSettings(DomainModelScope modelScope) {
+		final List<BindingTypeAnalyzer.Mismatch> mismatches = new BindingTypeAnalyzer(
+				modelScope.getDomainModel(),
+				Map.of( JdbcSettings.URL, "jdbc:sqlserver://localhost;sendTimeAsDatetime=false" )
+		).analyze();
+
+		assertThat( mismatches ).extracting( BindingTypeAnalyzer.Mismatch::attribute )
+				.containsExactlyInAnyOrder( "title", "author", "isbn", "name", "code", "library", "borrowers.{element}" );
+		assertThat( mismatches ).extracting( BindingTypeAnalyzer.Mismatch::parameterType )
+				.containsOnly( "nvarchar" );
+	}
+
+	/// An Instant is bound as an OffsetDateTime, matching its `datetimeoffset` column
+	@Test
+	void testInstantBinding(DomainModelScope modelScope) {
+		final List<BindingTypeAnalyzer.Binding> bindings = new BindingTypeAnalyzer(
+				modelScope.getDomainModel(),
+				Map.of( JdbcSettings.URL, "jdbc:sqlserver://localhost" )
+		).bindings();
+
+		assertThat( bindings )
+				.filteredOn( (binding) -> binding.entityName().equals( Book.class.getName() ) && binding.attribute().equals( "publishDate" ) )
+				.singleElement()
+				.satisfies( (binding) -> {
+					assertThat( binding.columnType() ).startsWith( "datetimeoffset" );
+					assertThat( binding.parameterType() ).isEqualTo( "datetimeoffset" );
+				} );
+	}
+
+	/// Foreign keys are bound like the key they reference
+	@Test
+	void testAssociationBindings(DomainModelScope modelScope) {
+		final List<BindingTypeAnalyzer.Binding> bindings = new BindingTypeAnalyzer(
+				modelScope.getDomainModel(),
+				Map.of( JdbcSettings.URL, "jdbc:sqlserver://localhost" )
+		).bindings();
+
+		assertThat( bindings )
+				.filteredOn( (binding) -> binding.entityName().equals( Loan.class.getName() ) )
+				.extracting( BindingTypeAnalyzer.Binding::attribute, BindingTypeAnalyzer.Binding::parameterType )
+				.containsExactlyInAnyOrder(
+						tuple( "id", null ),
+						tuple( "book", null ),
+						tuple( "library", "nvarchar" ),
+						tuple( "borrowers.{key}", null ),
+						tuple( "borrowers.{element}", "nvarchar" )
+				);
+	}
+
+	@Test
+	void testNonUnicodeStrings(DomainModelScope modelScope) {
+		final List<BindingTypeAnalyzer.Mismatch> mismatches = new BindingTypeAnalyzer(
+				modelScope.getDomainModel(),
+				Map.of( JdbcSettings.URL, "jdbc:sqlserver://localhost;sendTimeAsDatetime=false;sendStringParametersAsUnicode=false" )
+		).analyze();
+
+		assertThat( mismatches ).isEmpty();
+	}
+
+	@Test
+	void testDatetimeParameterType(DomainModelScope modelScope) {
+		final List<BindingTypeAnalyzer.Mismatch> mismatches = new BindingTypeAnalyzer(
+				modelScope.getDomainModel(),
+				Map.of(
+						JdbcSettings.URL, "jdbc:sqlserver://localhost;sendStringParametersAsUnicode=false",
+						"hibernate.connection.datetimeParameterType", "datetimeoffset"
+				)
+		).analyze();
+
+		assertThat( mismatches ).extracting( BindingTypeAnalyzer.Mismatch::attribute )
+				.contains( "theDate" )
+				.doesNotContain( "sqlDate", "title" );
+	}
+
+	@Test
+	void testStrictMode(DomainModelScope modelScope) {
+		final BindingTypeAnalyzer analyzer = new BindingTypeAnalyzer(
+				modelScope.getDomainModel(),
+				Map.of( JdbcSettings.URL, "jdbc:sqlserver://localhost" )
+		);
+
+		assertThatThrownBy( analyzer::verify )
+				.isInstanceOf( MappingException.class )
+				.hasMessageContaining( "author" );
+	}
+
+	@Test
+	void testBootstrapCheck(SessionFactoryScope factoryScope) {
+		// not strict, so mismatches are only logged
+		assertThat( factoryScope.getSessionFactory().isOpen() ).isTrue();
+	}
+
+	@Entity(name = "Library")
+	@Table(name = "libraries")
+	public static class Library {
+		@Id
+		private String code;
+	}
+
+	@Entity(name = "Loan")
+	@Table(name = "loans")
+	public static class Loan {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Book book;
+		@ManyToOne
+		private Library library;
+		@ElementCollection
+		private Set<String> borrowers;
+	}
+}
@@ -0,0 +1,116 @@
+package org.hibernate.test.liberty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.JdbcSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistryProducer;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/// Runs the [Scenarios] at increasing concurrency using the [LoadGenerator], first
+/// on platform threads from 1 up to the number of cores, then on virtual threads.
+///
+/// Throughput is written to `build/benchmarks/concurrent-load.csv`, pinning and
+/// contention sites to `build/benchmarks/concurrent-load-contention.csv`.
+///
+/// Settings:
+/// * `liberty.load.rows` - rows generated per entity (1000)
+/// * `liberty.load.seconds` - duration of each run (10)
+/// * `liberty.load.virtual_concurrency` - number of concurrent virtual threads (256)
+///
+/// The connection pool is sized so that no operation fails for lack of a connection
+/// (Hibernate's built-in pool does not wait for one): two per worker, as the TABLE id
+/// generation of `things` uses a second connection for its isolated transaction.
+/// The first failure of each run, if any, is reported along with the failure count.
+@Tag(Benchmarks.TAG)
+@DomainModel(annotatedClasses = {
+		Book.class,
+		QueryGroupByTests.Person.class,
+		QueryGroupByTests.Name.class,
+		NestedCompositeKeyTests.Level3.class,
+		NestedCompositeKeyTests.Level2.class,
+		NestedCompositeKeyTests.Level1.class,
+		NestedCompositeKeyTests.Something.class,
+		TableGenerationTests.Things.class
+})
+@SessionFactory
+public class ConcurrentLoadTests implements ServiceRegistryProducer {
+	private static final int VIRTUAL_CONCURRENCY = Benchmarks.intValue( "liberty.load.virtual_concurrency", 256 );
+
+	@Override
+	public StandardServiceRegistry produceServiceRegistry(StandardServiceRegistryBuilder standardServiceRegistryBuilder) {
+		final int maxConcurrency = Math.max( VIRTUAL_CONCURRENCY, Runtime.getRuntime().availableProcessors() );
+		return new StandardServiceRegistryBuilder()
+				.applySetting( JdbcSettings.SHOW_SQL, false )
+				.applySetting( JdbcSettings.POOL_SIZE, 2 * maxConcurrency )
+				// in case of `-PcontainerPool`
+				.applySetting( ContainerPoolConnectionProvider.POOL_SIZE, 2 * maxConcurrency )
+				.build();
+	}
+
+	@Override
+	public void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder bootstrapServiceRegistryBuilder) {
+		// nothing to do
+	}
+
+	@BeforeEach
+	void setUp(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).loadAll( Benchmarks.intValue( "liberty.load.rows", 1000 ) );
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::createDatabaseObjects ) );
+	}
+
+	@Test
+	void testThroughputScaling(SessionFactoryScope factoryScope) throws Exception {
+		final LoadGenerator generator = new LoadGenerator( factoryScope.getSessionFactory(), Scenarios.standard() );
+		final Duration duration = Duration.ofSeconds( Benchmarks.intValue( "liberty.load.seconds", 10 ) );
+
+		final List<LoadGenerator.Result> results = new ArrayList<>();
+		for ( int concurrency = 1; concurrency < Runtime.getRuntime().availableProcessors(); concurrency *= 2 ) {
+			results.add( generator.run( concurrency, false, duration ) );
+		}
+		results.add( generator.run( Runtime.getRuntime().availableProcessors(), false, duration ) );
+		results.add( generator.run( VIRTUAL_CONCURRENCY, true, duration ) );
+
+		final double baseline = results.getFirst().throughput();
+		try ( var throughput = new BenchmarkReport(
+						"concurrent-load",
+						"concurrency", "virtual", "operations", "failures", "ops_per_sec", "scaling", "first_failure"
+				);
+				var contention = new BenchmarkReport(
+						"concurrent-load-contention",
+						"concurrency", "virtual", "event", "site", "count"
+				) ) {
+			for ( LoadGenerator.Result result : results ) {
+				throughput.row(
+						result.concurrency(), result.virtualThreads(), result.operations(), result.failures(),
+						result.throughput(), result.throughput() / baseline,
+						result.firstFailure() == null ? "" : result.firstFailure().toString()
+				);
+				result.contention().forEach( (event, sites) -> sites.entrySet().stream()
+						.sorted( Map.Entry.<String, Long>comparingByValue().reversed() )
+						.limit( 20 )
+						.forEach( (site) -> contention.row(
+								result.concurrency(), result.virtualThreads(), event, site.getKey(), site.getValue()
+						) ) );
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::dropDatabaseObjects ) );
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,148 @@
+package org.hibernate.test.liberty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistryProducer;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Connection acquire/release latency and throughput under concurrency, for
+/// Hibernate's built-in pool versus the [ContainerPoolConnectionProvider].
+///
+/// Each operation acquires a connection, executes a trivial prepared statement
+/// (so that statement caching comes into play) and releases it.  Results are
+/// written to `build/benchmarks/connection-acquisition.csv`.
+///
+/// The built-in pool fails, rather than waits, once all its connections are in use,
+/// so for it the number of threads is capped at the pool size.
+@Tag(Benchmarks.TAG)
+@TestInstance( TestInstance.Lifecycle.PER_METHOD )
+@ParameterizedClass
+@MethodSource("connectionProviders")
+@DomainModel(annotatedClasses = Book.class)
+@SessionFactory
+public class ConnectionAcquisitionTests implements ServiceRegistryProducer {
+	public static List<Class<? extends ConnectionProvider>> connectionProviders() {
+		return List.of( DriverManagerConnectionProviderImpl.class, ContainerPoolConnectionProvider.class );
+	}
+
+	private static final int POOL_SIZE = Benchmarks.intValue( ContainerPoolConnectionProvider.POOL_SIZE, 20 );
+
+	private final Class<? extends ConnectionProvider> connectionProvider;
+
+	public ConnectionAcquisitionTests(Class<? extends ConnectionProvider> connectionProvider) {
+		this.connectionProvider = connectionProvider;
+	}
+
+	@Override
+	public StandardServiceRegistry produceServiceRegistry(StandardServiceRegistryBuilder standardServiceRegistryBuilder) {
+		return new StandardServiceRegistryBuilder()
+				.applySetting( JdbcSettings.SHOW_SQL, false )
+				.applySetting( JdbcSettings.CONNECTION_PROVIDER, connectionProvider.getName() )
+				.applySetting( JdbcSettings.POOL_SIZE, POOL_SIZE )
+				.applySetting( ContainerPoolConnectionProvider.POOL_SIZE, POOL_SIZE )
+				.build();
+	}
+
+	@Override
+	public void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder bootstrapServiceRegistryBuilder) {
+		// nothing to do
+	}
+
+	@Test
+	void testAcquisition(SessionFactoryScope factoryScope) throws Exception {
+		final ConnectionProvider provider = factoryScope.getSessionFactory()
+				.getServiceRegistry()
+				.requireService( ConnectionProvider.class );
+		assertThat( provider ).isInstanceOf( connectionProvider );
+
+		final int operations = Benchmarks.intValue( "liberty.pool.operations", 2000 );
+		try ( var report = new BenchmarkReport(
+				"connection-acquisition",
+				"provider", "pool_size", "threads", "ops_per_sec", "acquire_p50_micros", "acquire_p99_micros", "acquire_max_micros"
+		) ) {
+			final List<Integer> threadCounts = Benchmarks.intList( "liberty.pool.threads", "1,4,16,64" ).stream()
+					.map( (threads) -> connectionProvider == DriverManagerConnectionProviderImpl.class ? Math.min( threads, POOL_SIZE ) : threads )
+					.distinct()
+					.toList();
+			for ( int threads : threadCounts ) {
+				// warm-up, which also fills the pool
+				run( provider, threads, operations / 10 );
+
+				final long start = System.nanoTime();
+				final long[] acquireTimes = run( provider, threads, operations );
+				final long elapsed = System.nanoTime() - start;
+
+				report.row(
+						connectionProvider.getSimpleName(),
+						POOL_SIZE,
+						threads,
+						(double) acquireTimes.length / ( elapsed / 1_000_000_000d ),
+						Benchmarks.percentile( acquireTimes, 50 ) / 1000d,
+						Benchmarks.percentile( acquireTimes, 99 ) / 1000d,
+						Benchmarks.percentile( acquireTimes, 100 ) / 1000d
+				);
+			}
+		}
+	}
+
+	/// @return The sorted acquisition times, in nanoseconds
+	private static long[] run(ConnectionProvider provider, int threads, int operationsPerThread) throws Exception {
+		final List<Future<long[]>> futures = new ArrayList<>();
+		try ( ExecutorService executor = Executors.newFixedThreadPool( threads ) ) {
+			for ( int t = 0; t < threads; t++ ) {
+				futures.add( executor.submit( () -> {
+					final long[] acquireTimes = new long[operationsPerThread];
+					for ( int i = 0; i < operationsPerThread; i++ ) {
+						final long start = System.nanoTime();
+						final Connection connection = provider.getConnection();
+						acquireTimes[i] = System.nanoTime() - start;
+						try {
+							execute( connection );
+						}
+						finally {
+							provider.closeConnection( connection );
+						}
+					}
+					return acquireTimes;
+				} ) );
+			}
+		}
+
+		final List<long[]> results = new ArrayList<>();
+		for ( Future<long[]> future : futures ) {
+			results.add( future.get() );
+		}
+		return results.stream().flatMapToLong( Arrays::stream ).sorted().toArray();
+	}
+
+	private static void execute(Connection connection) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( "select count(*) from books where id = ?" ) ) {
+			statement.setInt( 1, 1 );
+			statement.executeQuery().close();
+		}
+	}
+}
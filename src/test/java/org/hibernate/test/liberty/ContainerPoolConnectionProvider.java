@@ -0,0 +1,199 @@
+package org.hibernate.test.liberty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.jdbc.connections.internal.ConnectionProviderInitiator;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+/// A [ConnectionProvider] behaving like a container managed, pooled DataSource as
+/// Liberty would supply, rather than Hibernate's built-in (non-production) pool.
+///
+/// * connections are created lazily, up to `liberty.pool.size` (default 10)
+/// * requests beyond that wait up to `liberty.pool.acquire_timeout` milliseconds
+/// 	(default 30000) before failing
+/// * released connections are rolled back, their auto-commit, isolation and read-only
+/// 	state is restored to what the driver created them with, and the most recently
+/// 	used one is handed out next
+/// * statements are cached per connection, `liberty.pool.statement_cache_size`
+/// 	(default 50), using the SQL Server driver's statement pooling
+/// * other `hibernate.connection.*` settings are passed to the driver as connection
+/// 	properties, as with Hibernate's own pools (e.g. `useBulkCopyForBatchInsert`)
+///
+/// Enabled for all tests by the `-PcontainerPool` build property.
+public class ContainerPoolConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+	public static final String POOL_SIZE = "liberty.pool.size";
+	public static final String ACQUIRE_TIMEOUT = "liberty.pool.acquire_timeout";
+	public static final String STATEMENT_CACHE_SIZE = "liberty.pool.statement_cache_size";
+
+	/// The state of a connection as created, restored when it is released
+	private record InitialState(boolean autoCommit, int isolation, boolean readOnly) {
+		static InitialState of(Connection connection) throws SQLException {
+			return new InitialState( connection.getAutoCommit(), connection.getTransactionIsolation(), connection.isReadOnly() );
+		}
+
+		void restore(Connection connection) throws SQLException {
+			if ( !connection.getAutoCommit() ) {
+				connection.rollback();
+			}
+			if ( connection.getAutoCommit() != autoCommit ) {
+				connection.setAutoCommit( autoCommit );
+			}
+			if ( connection.getTransactionIsolation() != isolation ) {
+				connection.setTransactionIsolation( isolation );
+			}
+			if ( connection.isReadOnly() != readOnly ) {
+				connection.setReadOnly( readOnly );
+			}
+		}
+	}
+
+	private final BlockingDeque<Connection> idle = new LinkedBlockingDeque<>();
+	private final Map<Connection, InitialState> initialStates = new ConcurrentHashMap<>();
+
+	private String url;
+	private Properties connectionProperties;
+	private int poolSize;
+	private long acquireTimeout;
+	private Semaphore permits;
+
+	@Override
+	public void configure(Map<String, Object> configurationValues) {
+		url = (String) setting( configurationValues, JdbcSettings.JAKARTA_JDBC_URL, JdbcSettings.URL );
+		poolSize = intSetting( configurationValues, POOL_SIZE, 10 );
+		acquireTimeout = intSetting( configurationValues, ACQUIRE_TIMEOUT, 30_000 );
+		permits = new Semaphore( poolSize, true );
+
+		connectionProperties = ConnectionProviderInitiator.getConnectionProperties( configurationValues );
+		setIfPresent( configurationValues, JdbcSettings.JAKARTA_JDBC_USER, JdbcSettings.USER, "user" );
+		setIfPresent( configurationValues, JdbcSettings.JAKARTA_JDBC_PASSWORD, JdbcSettings.PASS, "password" );
+
+		final int statementCacheSize = intSetting( configurationValues, STATEMENT_CACHE_SIZE, 50 );
+		connectionProperties.setProperty( "disableStatementPooling", Boolean.toString( statementCacheSize <= 0 ) );
+		connectionProperties.setProperty( "statementPoolingCacheSize", Integer.toString( Math.max( 0, statementCacheSize ) ) );
+	}
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/// The number of connections created but not currently in use
+	public int getIdleCount() {
+		return idle.size();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		try {
+			if ( !permits.tryAcquire( acquireTimeout, TimeUnit.MILLISECONDS ) ) {
+				throw new SQLException( "Timed out after " + acquireTimeout + "ms waiting for one of " + poolSize + " pooled connections" );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException( "Interrupted while waiting for a pooled connection", e );
+		}
+
+		try {
+			final Connection pooled = idle.pollFirst();
+			return pooled != null ? pooled : createConnection();
+		}
+		catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	private Connection createConnection() throws SQLException {
+		final Connection connection = DriverManager.getConnection( url, connectionProperties );
+		try {
+			initialStates.put( connection, InitialState.of( connection ) );
+			return connection;
+		}
+		catch (SQLException e) {
+			connection.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public void closeConnection(Connection connection) throws SQLException {
+		try {
+			initialStates.get( connection ).restore( connection );
+			connection.clearWarnings();
+			idle.offerFirst( connection );
+		}
+		catch (SQLException e) {
+			// do not return a broken connection to the pool
+			discard( connection );
+		}
+		finally {
+			permits.release();
+		}
+	}
+
+	private void discard(Connection connection) throws SQLException {
+		initialStates.remove( connection );
+		connection.close();
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	@Override
+	public void stop() {
+		Connection connection;
+		while ( ( connection = idle.pollFirst() ) != null ) {
+			try {
+				discard( connection );
+			}
+			catch (SQLException ignore) {
+			}
+		}
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class<?> unwrapType) {
+		return unwrapType.isAssignableFrom( getClass() );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( isUnwrappableAs( unwrapType ) ) {
+			return unwrapType.cast( this );
+		}
+		throw new UnknownUnwrapTypeException( unwrapType );
+	}
+
+	private void setIfPresent(Map<String, Object> configurationValues, String setting, String legacySetting, String property) {
+		final Object value = setting( configurationValues, setting, legacySetting );
+		if ( value != null ) {
+			connectionProperties.setProperty( property, value.toString() );
+		}
+	}
+
+	/// The value of the `jakarta.persistence` setting, falling back to the legacy Hibernate one
+	private static Object setting(Map<String, Object> configurationValues, String setting, String legacySetting) {
+		final Object value = configurationValues.get( setting );
+		return value != null ? value : configurationValues.get( legacySetting );
+	}
+
+	private static int intSetting(Map<String, Object> configurationValues, String name, int defaultValue) {
+		final Object value = configurationValues.get( name );
+		return value == null ? defaultValue : Integer.parseInt( value.toString() );
+	}
+}
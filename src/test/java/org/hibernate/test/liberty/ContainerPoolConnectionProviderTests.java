@@ -0,0 +1,61 @@
+package org.hibernate.test.liberty;
+
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cfg.Environment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Tests the handling of released connections by [ContainerPoolConnectionProvider],
+/// configured from `hibernate.properties`
+public class ContainerPoolConnectionProviderTests {
+	private ContainerPoolConnectionProvider provider;
+
+	@BeforeEach
+	void setUp() {
+		final Map<String, Object> settings = new HashMap<>();
+		Environment.getProperties().forEach( (key, value) -> settings.put( key.toString(), value ) );
+		settings.put( ContainerPoolConnectionProvider.POOL_SIZE, 1 );
+		provider = new ContainerPoolConnectionProvider();
+		provider.configure( settings );
+	}
+
+	@AfterEach
+	void tearDown() {
+		provider.stop();
+	}
+
+	@Test
+	void testReleaseRestoresState() throws Exception {
+		final Connection connection = provider.getConnection();
+		final boolean autoCommit = connection.getAutoCommit();
+		final int isolation = connection.getTransactionIsolation();
+		final boolean readOnly = connection.isReadOnly();
+
+		connection.setAutoCommit( !autoCommit );
+		connection.setTransactionIsolation( isolation == Connection.TRANSACTION_SERIALIZABLE
+				? Connection.TRANSACTION_READ_COMMITTED
+				: Connection.TRANSACTION_SERIALIZABLE );
+		connection.setReadOnly( !readOnly );
+		provider.closeConnection( connection );
+
+		// the pool holds a single connection, so it is handed out again
+		final Connection reused = provider.getConnection();
+		try {
+			assertThat( reused ).isSameAs( connection );
+			assertThat( reused.getAutoCommit() ).isEqualTo( autoCommit );
+			assertThat( reused.getTransactionIsolation() ).isEqualTo( isolation );
+			assertThat( reused.isReadOnly() ).isEqualTo( readOnly );
+		}
+		finally {
+			provider.closeConnection( reused );
+		}
+		assertThat( provider.getIdleCount() ).isEqualTo( 1 );
+	}
+}
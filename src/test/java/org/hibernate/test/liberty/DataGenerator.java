@@ -0,0 +1,111 @@
+package org.hibernate.test.liberty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.IntFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Level1;
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Level2;
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Level3;
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Something;
+import org.hibernate.test.liberty.QueryGroupByTests.Name;
+import org.hibernate.test.liberty.QueryGroupByTests.Person;
+import org.hibernate.test.liberty.TableGenerationTests.Things;
+
+/// Bulk loads synthetic data for the scenario entities.
+///
+/// Rows are inserted through a [StatelessSession] using JDBC batching, committing
+/// every [#getBatchSize()] rows so that a load of 10⁷ rows neither accumulates
+/// state nor holds one enormous transaction.  Combined with the SQL Server
+/// driver's `useBulkCopyForBatchInsert` connection property, the batches are
+/// sent as multi-row bulk inserts.
+///
+/// Values are derived from the row number, so a given row always has the same
+/// content and keys can be computed (see [#bookIsbn(int)], [#somethingKey(int)]).
+public class DataGenerator {
+	/// Number of rows per JDBC batch (and per transaction)
+	public static final String BATCH_SIZE = "liberty.generator.batch_size";
+
+	/// Instant from which the generated timestamps are offset
+	public static final Instant EPOCH = Instant.parse( "2000-01-01T00:00:00Z" );
+
+	private static final String[] AUTHORS = { "Stephen King", "Agatha Christie", "Terry Pratchett", "Ursula Le Guin" };
+	private static final int FIRST_NAMES = 100;
+
+	private final SessionFactory sessionFactory;
+	private final int batchSize;
+
+	public DataGenerator(SessionFactory sessionFactory) {
+		this( sessionFactory, Benchmarks.intValue( BATCH_SIZE, 1000 ) );
+	}
+
+	public DataGenerator(SessionFactory sessionFactory, int batchSize) {
+		this.sessionFactory = sessionFactory;
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/// Loads `count` rows of each of [Book], [Person], [Something] and [Things]
+	public void loadAll(int count) {
+		books( count );
+		persons( count );
+		somethings( count );
+		things( count );
+	}
+
+	public void books(int count) {
+		load( count, (i) -> {
+			final Book book = new Book( i, "Title " + i, bookAuthor( i ), bookIsbn( i ) );
+			book.setPublishDate( EPOCH.plus( Duration.ofMinutes( i ) ) );
+			return book;
+		} );
+	}
+
+	public void persons(int count) {
+		load( count, (i) -> new Person(
+				i,
+				new Name( "First" + ( i % FIRST_NAMES ), "Last" + ( i / FIRST_NAMES ) ),
+				EPOCH.plus( Duration.ofHours( i ) )
+		) );
+	}
+
+	public void somethings(int count) {
+		load( count, (i) -> new Something( somethingKey( i ), "Something " + i ) );
+	}
+
+	public void things(int count) {
+		load( count, (i) -> new Things( "Thing " + i ) );
+	}
+
+	public static String bookAuthor(int i) {
+		return AUTHORS[i % AUTHORS.length];
+	}
+
+	public static String bookIsbn(int i) {
+		return String.format( "%03d-%02d-%04d", i / 1_000_000, ( i / 10_000 ) % 100, i % 10_000 );
+	}
+
+	public static Level1 somethingKey(int i) {
+		return new Level1( "l1-" + i, new Level2( "l2-" + i, new Level3( "l3a-" + i, "l3b-" + i ) ) );
+	}
+
+	/// Inserts the entities created by `factory` for the row numbers 1 to `count`
+	public void load(int count, IntFunction<Object> factory) {
+		for ( int start = 1; start <= count; start += batchSize ) {
+			final int from = start;
+			final int to = Math.min( count, start + batchSize - 1 );
+			sessionFactory.inStatelessTransaction( (session) -> {
+				session.setJdbcBatchSize( batchSize );
+				for ( int i = from; i <= to; i++ ) {
+					session.insert( factory.apply( i ) );
+				}
+			} );
+		}
+	}
+}
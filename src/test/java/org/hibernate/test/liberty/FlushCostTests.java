@@ -0,0 +1,91 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.spi.ManagedEntity;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistryProducer;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/// Measures the cost of flushing a persistence context holding many managed
+/// entities, of which only a few are dirty.
+///
+/// Without bytecode enhancement every flush compares the complete state of each
+/// managed entity with its loaded snapshot; with enhancement (dirty tracking),
+/// entities record their own changes.  Run once as-is and once with the
+/// `-Penhance` build profile and compare the `enhanced` rows of
+/// `build/benchmarks/flush-cost.csv`.
+@Tag(Benchmarks.TAG)
+@TestInstance( TestInstance.Lifecycle.PER_METHOD )
+@ParameterizedClass
+@MethodSource("sizes")
+@DomainModel(annotatedClasses = Book.class)
+@SessionFactory
+public class FlushCostTests implements ServiceRegistryProducer {
+	public static List<Integer> sizes() {
+		return Benchmarks.intList( "liberty.flush.sizes", "1000,10000,100000" );
+	}
+
+	private final int size;
+
+	public FlushCostTests(int size) {
+		this.size = size;
+	}
+
+	@Override
+	public StandardServiceRegistry produceServiceRegistry(StandardServiceRegistryBuilder standardServiceRegistryBuilder) {
+		return new StandardServiceRegistryBuilder()
+				.applySetting( JdbcSettings.SHOW_SQL, false )
+				// keep the round-trips for the dirty entities out of the picture as much as possible
+				.applySetting( BatchSettings.STATEMENT_BATCH_SIZE, 100 )
+				.build();
+	}
+
+	@Override
+	public void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder bootstrapServiceRegistryBuilder) {
+		// nothing to do
+	}
+
+	@Test
+	void testFlushCost(SessionFactoryScope factoryScope) {
+		final boolean enhanced = ManagedEntity.class.isAssignableFrom( Book.class );
+		new DataGenerator( factoryScope.getSessionFactory() ).books( size );
+
+		try ( var report = new BenchmarkReport( "flush-cost", "enhanced", "entities", "dirty", "iteration", "millis" ) ) {
+			factoryScope.inTransaction( (session) -> {
+				final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).list();
+
+				for ( int dirty : List.of( 0, 1, size / 100 ) ) {
+					// first round is warm-up
+					for ( int i = 0; i <= Benchmarks.iterations(); i++ ) {
+						for ( int d = 0; d < dirty; d++ ) {
+							books.get( ( d * 97 ) % size ).setTitle( "Title " + dirty + "-" + i + "-" + d );
+						}
+						final long time = Benchmarks.time( session::flush );
+						if ( i > 0 ) {
+							report.row( enhanced, size, dirty, i, Benchmarks.millis( time ) );
+						}
+					}
+				}
+			} );
+		}
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,186 @@
+package org.hibernate.test.liberty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.query.SelectionQuery;
+
+/// Evaluates calls to declared database functions with only literal arguments once,
+/// binding the result as a parameter, instead of sending the call in the query where
+/// SQL Server evaluates it per row - notoriously slow for T-SQL scalar functions.
+///
+/// ```java
+/// var hoisting = new FunctionHoisting()
+/// 		.declare( "dbo.multiplied_number", FunctionHoisting.Kind.DETERMINISTIC );
+/// hoisting.createQuery( session, "from Book b where b.id = function( 'dbo.multiplied_number' as int, 2 )", Book.class )
+/// ```
+/// is executed as `from Book b where b.id = :hoisted0`, with `hoisted0` bound to the
+/// result of `select dbo.multiplied_number(2)`.
+///
+/// Only `function('name' [as type], literal, ...)` calls in the `where` and `having`
+/// predicates of the outermost query are hoisted, where the parameter takes its type
+/// from the other side of the comparison.  Calls in the select list (where a parameter
+/// has no type, which JPA query compliance rejects), in `order by`, within subqueries
+/// and text inside string literals are left as they are.
+public class FunctionHoisting {
+	public enum Kind {
+		/// Same arguments, same result: evaluated once and cached for the life of this object
+		DETERMINISTIC,
+		/// Constant within a query (e.g. depends on the current date): evaluated once per query
+		CONSTANT_PER_QUERY
+	}
+
+	/// A hoisted function call
+	public record Call(String function, List<String> arguments) {
+		public String sql() {
+			return function + "(" + String.join( ", ", arguments ) + ")";
+		}
+	}
+
+	/// The query to execute, with the calls to evaluate by parameter name
+	public record Rewrite(String hql, Map<String, Call> parameters) {
+	}
+
+	static final String PARAMETER_PREFIX = "hoisted";
+
+	private static final Pattern CALL = Pattern.compile(
+			"function\\(\\s*'([\\w.]+)'\\s*(?:as\\s+\\w+\\s*)?((?:,\\s*(?:'(?:[^']|'')*'|-?\\d+(?:\\.\\d+)?)\\s*)*)\\)",
+			Pattern.CASE_INSENSITIVE
+	);
+	private static final Pattern ARGUMENT = Pattern.compile( "'(?:[^']|'')*'|-?\\d+(?:\\.\\d+)?" );
+	/// Keywords starting a clause of the outermost query
+	private static final Pattern CLAUSE = Pattern.compile(
+			"(where|having|select|from|group\\s+by|order\\s+by|offset|fetch|limit|union|intersect|except)\\b",
+			Pattern.CASE_INSENSITIVE
+	);
+	private static final Pattern SUBQUERY = Pattern.compile( "\\(\\s*(select|from)\\b", Pattern.CASE_INSENSITIVE );
+
+	private final Map<String, Kind> functions = new ConcurrentHashMap<>();
+	private final Map<Call, Object> results = new ConcurrentHashMap<>();
+
+	public FunctionHoisting declare(String function, Kind kind) {
+		functions.put( function.toLowerCase( Locale.ROOT ), kind );
+		return this;
+	}
+
+	public <R> SelectionQuery<R> createQuery(SharedSessionContract session, String hql, Class<R> resultType) {
+		final Rewrite rewrite = rewrite( hql );
+		final SelectionQuery<R> query = session.createSelectionQuery( rewrite.hql(), resultType );
+		rewrite.parameters().forEach( (name, call) -> query.setParameter( name, evaluate( session, call ) ) );
+		return query;
+	}
+
+	private Object evaluate(SharedSessionContract session, Call call) {
+		final boolean deterministic = functions.get( call.function().toLowerCase( Locale.ROOT ) ) == Kind.DETERMINISTIC;
+		if ( deterministic ) {
+			final Object cached = results.get( call );
+			if ( cached != null ) {
+				return cached;
+			}
+		}
+		final Object result = session.createNativeQuery( "select " + call.sql(), Object.class ).getSingleResult();
+		if ( deterministic && result != null ) {
+			results.put( call, result );
+		}
+		return result;
+	}
+
+	/// Rewrites the query in a single pass over it.  The result is not cached: the
+	/// rewritten HQL is what Hibernate's own query plan cache is keyed by.
+	public Rewrite rewrite(String hql) {
+		final boolean[] predicate = predicates( hql );
+		final Map<String, Call> parameters = new LinkedHashMap<>();
+		final Matcher matcher = CALL.matcher( hql );
+		final StringBuilder result = new StringBuilder();
+		while ( matcher.find() ) {
+			if ( predicate[matcher.start()] && isHoistable( matcher ) ) {
+				final String name = PARAMETER_PREFIX + parameters.size();
+				parameters.put( name, new Call( matcher.group( 1 ), arguments( matcher.group( 2 ) ) ) );
+				matcher.appendReplacement( result, ":" + name );
+			}
+		}
+		matcher.appendTail( result );
+		return new Rewrite( result.toString(), parameters );
+	}
+
+	/// Marks the characters in the `where` and `having` clauses of the outermost query,
+	/// excluding string literals and subqueries
+	private static boolean[] predicates(String hql) {
+		final boolean[] predicate = new boolean[hql.length()];
+		final Matcher clause = CLAUSE.matcher( hql );
+		final Matcher subquery = SUBQUERY.matcher( hql );
+		// per open parenthesis, whether it starts (or is within) a subquery
+		final Deque<Boolean> parentheses = new ArrayDeque<>();
+		boolean inPredicate = false;
+		for ( int i = 0; i < hql.length(); i++ ) {
+			final char c = hql.charAt( i );
+			if ( c == '\'' || c == '"' ) {
+				i = endOfLiteral( hql, i );
+			}
+			else if ( c == '(' ) {
+				final boolean enclosing = !parentheses.isEmpty() && parentheses.peek();
+				parentheses.push( enclosing || subquery.region( i, hql.length() ).lookingAt() );
+			}
+			else if ( c == ')' ) {
+				parentheses.poll();
+			}
+			else if ( parentheses.isEmpty() && isWordStart( hql, i ) && clause.region( i, hql.length() ).lookingAt() ) {
+				final String keyword = clause.group( 1 ).toLowerCase( Locale.ROOT );
+				inPredicate = keyword.equals( "where" ) || keyword.equals( "having" );
+				i = clause.end() - 1;
+			}
+			else {
+				predicate[i] = inPredicate && ( parentheses.isEmpty() || !parentheses.peek() );
+			}
+		}
+		return predicate;
+	}
+
+	/// The index of the quote closing the literal starting at `start`, which may
+	/// contain doubled quotes
+	private static int endOfLiteral(String hql, int start) {
+		final char quote = hql.charAt( start );
+		int i = start + 1;
+		while ( i < hql.length() ) {
+			if ( hql.charAt( i ) == quote ) {
+				if ( i + 1 < hql.length() && hql.charAt( i + 1 ) == quote ) {
+					i += 2;
+					continue;
+				}
+				return i;
+			}
+			i++;
+		}
+		return hql.length();
+	}
+
+	private static boolean isWordStart(String hql, int index) {
+		if ( index == 0 ) {
+			return true;
+		}
+		final char previous = hql.charAt( index - 1 );
+		return !Character.isJavaIdentifierPart( previous ) && previous != '.';
+	}
+
+	private boolean isHoistable(Matcher call) {
+		return functions.containsKey( call.group( 1 ).toLowerCase( Locale.ROOT ) );
+	}
+
+	private static List<String> arguments(String group) {
+		final List<String> arguments = new ArrayList<>();
+		final Matcher matcher = ARGUMENT.matcher( group );
+		while ( matcher.find() ) {
+			arguments.add( matcher.group() );
+		}
+		return arguments;
+	}
+}
@@ -0,0 +1,143 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Tests [FunctionHoisting] with the function calls of QueryFunctionTests, verifying
+/// the SQL sent, and compares the hoisted and original comparison on a large `books`
+/// table.
+@DomainModel(annotatedClasses = Book.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class FunctionHoistingTests {
+	private static final String COMPARISON = "select b from Book b where b.id = function( 'dbo.multiplied_number' as int, 2)";
+	private static final String ORDER_BY = "select b from Book b order by function( 'dbo.constant_number' as int)";
+
+	private final FunctionHoisting hoisting = new FunctionHoisting()
+			.declare( "dbo.multiplied_number", FunctionHoisting.Kind.DETERMINISTIC )
+			.declare( "dbo.constant_number", FunctionHoisting.Kind.CONSTANT_PER_QUERY );
+
+	@BeforeEach
+	void setUp(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::createDatabaseObjects ) );
+	}
+
+	@Test
+	void testRewrite() {
+		final FunctionHoisting.Rewrite comparison = hoisting.rewrite( COMPARISON );
+		assertThat( comparison.hql() ).isEqualTo( "select b from Book b where b.id = :hoisted0" );
+		assertThat( comparison.parameters() ).containsExactly(
+				Map.entry( "hoisted0", new FunctionHoisting.Call( "dbo.multiplied_number", List.of( "2" ) ) )
+		);
+
+		final FunctionHoisting.Rewrite having = hoisting.rewrite(
+				"select b.author, count(*) from Book b group by b.author having count(*) > function( 'dbo.constant_number' as int)"
+		);
+		assertThat( having.hql() ).isEqualTo( "select b.author, count(*) from Book b group by b.author having count(*) > :hoisted0" );
+		assertThat( having.parameters() ).containsExactly(
+				Map.entry( "hoisted0", new FunctionHoisting.Call( "dbo.constant_number", List.of() ) )
+		);
+
+		// not declared, or not constant arguments
+		final String undeclared = "select b from Book b where b.id = function( 'dbo.other' as int, 2)";
+		assertThat( hoisting.rewrite( undeclared ).hql() ).isEqualTo( undeclared );
+		final String correlated = "select b from Book b where b.id = function( 'dbo.multiplied_number' as int, b.id)";
+		assertThat( hoisting.rewrite( correlated ).hql() ).isEqualTo( correlated );
+	}
+
+	@Test
+	void testRewriteOutsidePredicates() {
+		// a parameter in the select list has no type, rejected under JPA query compliance
+		final String selection = "select id, function( 'dbo.multiplied_number' as integer, 2 ) from Book";
+		assertThat( hoisting.rewrite( selection ).hql() ).isEqualTo( selection );
+		assertThat( hoisting.rewrite( ORDER_BY ).hql() ).isEqualTo( ORDER_BY );
+
+		final String subquery = "select b from Book b where b.id in (select c.id from Book c where c.id = function( 'dbo.multiplied_number' as int, 2))";
+		assertThat( hoisting.rewrite( subquery ).hql() ).isEqualTo( subquery );
+	}
+
+	@Test
+	void testRewriteSkipsLiterals() {
+		final FunctionHoisting.Rewrite rewrite = hoisting.rewrite(
+				"select b from Book b where b.title = 'function( ''dbo.multiplied_number'' as int, 2)' and b.id = function( 'dbo.multiplied_number' as int, 3)"
+		);
+		assertThat( rewrite.hql() ).isEqualTo( "select b from Book b where b.title = 'function( ''dbo.multiplied_number'' as int, 2)' and b.id = :hoisted0" );
+		assertThat( rewrite.parameters() ).containsExactly(
+				Map.entry( "hoisted0", new FunctionHoisting.Call( "dbo.multiplied_number", List.of( "3" ) ) )
+		);
+	}
+
+	@Test
+	void testRewriteWithOffsetFetch() {
+		final FunctionHoisting.Rewrite rewrite = hoisting.rewrite(
+				COMPARISON + " order by function( 'dbo.constant_number' as int), b.id desc offset 1 rows fetch first 5 rows only"
+		);
+		assertThat( rewrite.hql() ).isEqualTo(
+				"select b from Book b where b.id = :hoisted0 order by function( 'dbo.constant_number' as int), b.id desc offset 1 rows fetch first 5 rows only"
+		);
+		assertThat( rewrite.parameters() ).containsOnlyKeys( "hoisted0" );
+	}
+
+	@Test
+	void testHoisting(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).books( 10 );
+		final SQLStatementInspector inspector = factoryScope.getCollectingStatementInspector();
+
+		factoryScope.inTransaction( (session) -> {
+			inspector.clear();
+			final List<Book> books = hoisting.createQuery( session, COMPARISON, Book.class ).list();
+			assertThat( books ).extracting( Book::getId ).containsExactly( 4 );
+			// the function is evaluated by itself, then the query runs without it
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).contains( "multiplied_number(2)" );
+			assertThat( inspector.getSqlQueries().get( 1 ) ).doesNotContain( "multiplied_number" );
+
+			// deterministic, so not evaluated again
+			inspector.clear();
+			hoisting.createQuery( session, COMPARISON, Book.class ).list();
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+
+			// not a predicate, sent as is
+			inspector.clear();
+			assertThat( hoisting.createQuery( session, ORDER_BY, Book.class ).list() ).hasSize( 10 );
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).contains( "constant_number()" );
+		} );
+	}
+
+	@Test
+	@Tag(Benchmarks.TAG)
+	void testHoistingBenefit(SessionFactoryScope factoryScope) {
+		final int rows = Benchmarks.intValue( "liberty.hoisting.rows", 1_000_000 );
+		new DataGenerator( factoryScope.getSessionFactory() ).books( rows );
+
+		try ( var report = new BenchmarkReport( "function-hoisting", "query", "rows", "original_millis", "hoisted_millis" ) ) {
+			report.row(
+					"comparison",
+					rows,
+					Benchmarks.millis( Benchmarks.measure( () -> factoryScope.getSessionFactory().inStatelessSession(
+							(session) -> session.createSelectionQuery( COMPARISON, Book.class ).list()
+					) ).nanos() ),
+					Benchmarks.millis( Benchmarks.measure( () -> factoryScope.getSessionFactory().inStatelessSession(
+							(session) -> hoisting.createQuery( session, COMPARISON, Book.class ).list()
+					) ).nanos() )
+			);
+		}
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::dropDatabaseObjects ) );
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
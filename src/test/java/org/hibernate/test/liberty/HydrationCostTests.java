@@ -0,0 +1,143 @@
+package org.hibernate.test.liberty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.metamodel.mapping.EmbeddableMappingType;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Measures the cost of instantiating and populating entities read from the database,
+/// for a flat entity (Book) and one with a nested `@EmbeddedId` (Something, 3 levels of
+/// embeddables), as allocated bytes and nanoseconds per row.
+///
+/// A stateless list() of all rows is measured against a plain JDBC read of the same
+/// columns, without building any objects; the difference is reported as the cost of
+/// hydration, so that it is not buried in the cost of executing the query and
+/// reading the results.
+///
+/// Run once as-is and once with `-Penhance`; the `optimized` column counts the managed
+/// types of each entity which got a generated access optimizer instead of reflection.
+@Tag(Benchmarks.TAG)
+@DomainModel(annotatedClasses = {
+		Book.class,
+		NestedCompositeKeyTests.Level3.class,
+		NestedCompositeKeyTests.Level2.class,
+		NestedCompositeKeyTests.Level1.class,
+		NestedCompositeKeyTests.Something.class
+})
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.SHOW_SQL, value = "false"))
+@SessionFactory
+public class HydrationCostTests {
+	/// Keeps the JIT from discarding the values read
+	@SuppressWarnings("unused")
+	private static volatile Object sink;
+
+	@Test
+	void testHydrationCost(SessionFactoryScope factoryScope) {
+		final int rows = Benchmarks.intValue( "liberty.hydration.rows", 100_000 );
+		final boolean enhanced = ManagedEntity.class.isAssignableFrom( Book.class );
+		final DataGenerator generator = new DataGenerator( factoryScope.getSessionFactory() );
+		generator.books( rows );
+		generator.somethings( rows );
+
+		try ( var report = new BenchmarkReport(
+				"hydration-cost",
+				"entity", "enhanced", "types", "optimized", "rows",
+				"jdbc_bytes_per_row", "jdbc_nanos_per_row", "bytes_per_row", "nanos_per_row"
+		) ) {
+			for ( Class<?> entity : List.of( Book.class, NestedCompositeKeyTests.Something.class ) ) {
+				final EntityPersister persister = factoryScope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( entity );
+				final List<ReflectionOptimizer> optimizers = reflectionOptimizers( persister );
+				final long optimized = optimizers.stream()
+						.filter( (optimizer) -> optimizer != null && optimizer.getAccessOptimizer() != null )
+						.count();
+				if ( enhanced ) {
+					assertThat( optimized ).as( entity.getSimpleName() ).isPositive();
+				}
+
+				final String table = persister.getIdentifierTableDetails().getTableName();
+				final Benchmarks.Measurement jdbc = Benchmarks.measure( () -> {
+					final int results = factoryScope.fromTransaction(
+							(session) -> session.doReturningWork( (connection) -> readColumns( connection, table ) )
+					);
+					assertThat( results ).isEqualTo( rows );
+				} );
+				final Benchmarks.Measurement total = Benchmarks.measure( () -> {
+					final List<?> results = factoryScope.getSessionFactory().fromStatelessTransaction(
+							(session) -> session.createSelectionQuery( "from " + persister.getJpaEntityName(), entity ).list()
+					);
+					assertThat( results ).hasSize( rows );
+				} );
+				report.row(
+						entity.getSimpleName(),
+						enhanced,
+						optimizers.size(),
+						optimized,
+						rows,
+						jdbc.bytes() / rows,
+						jdbc.nanos() / rows,
+						( total.bytes() - jdbc.bytes() ) / rows,
+						( total.nanos() - jdbc.nanos() ) / rows
+				);
+			}
+		}
+	}
+
+	/// Reads every column of every row of the table, returning the number of rows
+	private static int readColumns(Connection connection, String table) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( "select * from " + table );
+				ResultSet resultSet = statement.executeQuery() ) {
+			final int columns = resultSet.getMetaData().getColumnCount();
+			int rows = 0;
+			while ( resultSet.next() ) {
+				for ( int i = 1; i <= columns; i++ ) {
+					sink = resultSet.getObject( i );
+				}
+				rows++;
+			}
+			return rows;
+		}
+	}
+
+	/// The reflection optimizers (or `null`) of the entity and each of its embeddables
+	private static List<ReflectionOptimizer> reflectionOptimizers(EntityPersister persister) {
+		final List<ReflectionOptimizer> optimizers = new ArrayList<>();
+		optimizers.add( persister.getRepresentationStrategy().getReflectionOptimizer() );
+		collectEmbeddables( persister.getIdentifierMapping(), optimizers );
+		persister.forEachAttributeMapping( (attribute) -> collectEmbeddables( attribute, optimizers ) );
+		return optimizers;
+	}
+
+	private static void collectEmbeddables(ModelPart part, List<ReflectionOptimizer> optimizers) {
+		if ( part instanceof EmbeddableValuedModelPart embedded ) {
+			final EmbeddableMappingType embeddable = embedded.getEmbeddableTypeDescriptor();
+			optimizers.add( embeddable.getRepresentationStrategy().getReflectionOptimizer() );
+			embeddable.forEachAttributeMapping( (attribute) -> collectEmbeddables( attribute, optimizers ) );
+		}
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,29 @@
+package org.hibernate.test.liberty;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/// An entity with an Integer `@Version`
+@Entity(name="IntegerVersioned")
+@Table(name="integer_versioned")
+public class IntegerVersioned implements Versioned {
+	@Id
+	private Integer id;
+	private int counter;
+	@Version
+	private Integer version;
+
+	public IntegerVersioned() {
+	}
+
+	public IntegerVersioned(Integer id) {
+		this.id = id;
+	}
+
+	@Override
+	public void increment() {
+		counter++;
+	}
+}
@@ -0,0 +1,80 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.jdbc.Work;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.hibernate.test.liberty.JdbcScenarios.Baseline;
+import org.hibernate.test.liberty.Scenarios.Scenario;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Runs each of the [Scenarios] and its [raw JDBC baseline][JdbcScenarios] against the
+/// same data, reporting the median latency of both and the Hibernate overhead as their
+/// ratio to `build/benchmarks/jdbc-baseline.csv`.
+///
+/// Both run in a transaction of a Session, the baseline via `doWork`, so connection
+/// handling and transaction demarcation are the same for both and not part of the
+/// overhead.
+///
+/// Settings:
+/// * `liberty.baseline.rows` - number of rows per entity (10000)
+@Tag(Benchmarks.TAG)
+@DomainModel(annotatedClasses = {
+		Book.class,
+		QueryGroupByTests.Person.class,
+		QueryGroupByTests.Name.class,
+		NestedCompositeKeyTests.Level3.class,
+		NestedCompositeKeyTests.Level2.class,
+		NestedCompositeKeyTests.Level1.class,
+		NestedCompositeKeyTests.Something.class,
+		TableGenerationTests.Things.class
+})
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.SHOW_SQL, value = "false"))
+@SessionFactory
+public class JdbcBaselineTests {
+	@Test
+	void testOverhead(SessionFactoryScope factoryScope) {
+		final int rows = Benchmarks.intValue( "liberty.baseline.rows", 10_000 );
+		new DataGenerator( factoryScope.getSessionFactory() ).loadAll( rows );
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::createDatabaseObjects ) );
+
+		final Map<String, Work> baselines = JdbcScenarios.standard( factoryScope.getSessionFactory() ).stream()
+				.collect( Collectors.toMap( Baseline::name, Baseline::work ) );
+		final List<Scenario> scenarios = Scenarios.standard();
+		assertThat( baselines ).containsOnlyKeys( scenarios.stream().map( Scenario::name ).toList() );
+
+		try ( var report = new BenchmarkReport( "jdbc-baseline", "rows", "scenario", "hibernate_millis", "jdbc_millis", "overhead" ) ) {
+			for ( Scenario scenario : scenarios ) {
+				// Hibernate first, e.g. the id generator row has to exist for the baseline
+				final long hibernate = Benchmarks.measure( () -> factoryScope.inTransaction( scenario.action()::accept ) ).nanos();
+				final long jdbc = Benchmarks.measure( () -> factoryScope.inTransaction( (session) -> session.doWork( baselines.get( scenario.name() ) ) ) ).nanos();
+				report.row(
+						rows,
+						scenario.name(),
+						Benchmarks.millis( hibernate ),
+						Benchmarks.millis( jdbc ),
+						(double) hibernate / jdbc
+				);
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::dropDatabaseObjects ) );
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,184 @@
+package org.hibernate.test.liberty;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.jdbc.Work;
+
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Level1;
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Level2;
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Level3;
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Something;
+import org.hibernate.test.liberty.TableGenerationTests.Things;
+
+/// Hand-written JDBC equivalents of the [Scenarios], with the same names, as the
+/// floor to compare the Hibernate versions against (see JdbcBaselineTests).
+///
+/// Each issues the same statements as Hibernate does for its scenario and builds
+/// the same objects from the results, but without any of the ORM machinery - no
+/// persistence context, no query translation, no generic (de)hydration.
+public final class JdbcScenarios {
+	/// A named unit of work against a JDBC connection, run within a transaction
+	public record Baseline(String name, Work work) {
+	}
+
+	/// Keeps the JIT from discarding the values read
+	@SuppressWarnings("unused")
+	private static volatile Object sink;
+
+	private JdbcScenarios() {
+	}
+
+	/// A baseline for each of [Scenarios#standard()].  The TABLE id generation of
+	/// `things` is emulated using the table and segment of Hibernate's generator
+	/// for it, taking blocks of ids the way its pooled optimizer does, so both can
+	/// be used against the same data.
+	public static List<Baseline> standard(SessionFactoryImplementor sessionFactory) {
+		final TableGenerator generator = (TableGenerator) sessionFactory.getMappingMetamodel()
+				.getEntityDescriptor( Things.class )
+				.getGenerator();
+		return List.of(
+				new Baseline( "native-result-class", (connection) -> books( connection, "select * from books" ) ),
+				new Baseline( "named-native-query", (connection) -> books( connection, "select * from books" ) ),
+				new Baseline( "result-set-mapping", (connection) -> books( connection, "select * from books" ) ),
+				new Baseline( "group-by-embedded", (connection) -> counts(
+						connection,
+						"select count(p.id) from persons p group by p.firstName, p.lastName"
+				) ),
+				new Baseline( "group-by-non-selected", (connection) -> counts(
+						connection,
+						"select count(*) from persons p group by p.dob, p.lastName"
+				) ),
+				new Baseline( "having-non-aggregated", (connection) -> {
+					try ( PreparedStatement statement = connection.prepareStatement(
+							"select p.dob, p.lastName, count(*) from persons p group by p.dob, p.lastName having p.dob > ?" ) ) {
+						statement.setTimestamp( 1, Timestamp.from( Instant.now() ) );
+						try ( ResultSet resultSet = statement.executeQuery() ) {
+							while ( resultSet.next() ) {
+								consume( new Object[] { resultSet.getTimestamp( 1 ).toInstant(), resultSet.getString( 2 ), resultSet.getLong( 3 ) } );
+							}
+						}
+					}
+				} ),
+				new Baseline( "function-order-by", (connection) -> books(
+						connection,
+						"select * from books b order by dbo.multiplied_number(2)"
+				) ),
+				new Baseline( "function-comparison", (connection) -> books(
+						connection,
+						"select * from books b where b.id = dbo.multiplied_number(2)"
+				) ),
+				new Baseline( "stored-procedure", (connection) -> {
+					try ( CallableStatement call = connection.prepareCall( "{call sp_count_books(?, ?)}" ) ) {
+						call.setString( 1, "Stephen King" );
+						call.registerOutParameter( 2, Types.INTEGER );
+						call.execute();
+						consume( call.getInt( 2 ) );
+					}
+				} ),
+				new Baseline( "composite-key-find", JdbcScenarios::findSomethings ),
+				new Baseline( "table-generated-insert", (connection) -> insertThings( connection, generator ) )
+		);
+	}
+
+	private static void books(Connection connection, String sql) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( sql );
+				ResultSet resultSet = statement.executeQuery() ) {
+			final int id = resultSet.findColumn( "id" );
+			final int title = resultSet.findColumn( "title" );
+			final int author = resultSet.findColumn( "author" );
+			final int isbn = resultSet.findColumn( "isbn" );
+			final int publishDate = resultSet.findColumn( "publishDate" );
+			while ( resultSet.next() ) {
+				final Book book = new Book( resultSet.getInt( id ), resultSet.getString( title ), resultSet.getString( author ), resultSet.getString( isbn ) );
+				final Timestamp published = resultSet.getTimestamp( publishDate );
+				book.setPublishDate( published == null ? null : published.toInstant() );
+				consume( book );
+			}
+		}
+	}
+
+	private static void counts(Connection connection, String sql) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( sql );
+				ResultSet resultSet = statement.executeQuery() ) {
+			while ( resultSet.next() ) {
+				consume( resultSet.getLong( 1 ) );
+			}
+		}
+	}
+
+	private static void findSomethings(Connection connection) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement(
+				"select s.level1Detail, s.level2Detail, s.level3Detail1, s.level3Detail2, s.name from somethings s"
+						+ " where s.level1Detail = ? and s.level2Detail = ? and s.level3Detail1 = ? and s.level3Detail2 = ?" ) ) {
+			for ( int i = 1; i <= 100; i++ ) {
+				statement.setString( 1, "l1-" + i );
+				statement.setString( 2, "l2-" + i );
+				statement.setString( 3, "l3a-" + i );
+				statement.setString( 4, "l3b-" + i );
+				try ( ResultSet resultSet = statement.executeQuery() ) {
+					if ( resultSet.next() ) {
+						consume( new Something(
+								new Level1( resultSet.getString( 1 ), new Level2( resultSet.getString( 2 ), new Level3( resultSet.getString( 3 ), resultSet.getString( 4 ) ) ) ),
+								resultSet.getString( 5 )
+						) );
+					}
+				}
+			}
+		}
+	}
+
+	private static void insertThings(Connection connection, TableGenerator generator) throws SQLException {
+		final int incrementSize = generator.getIncrementSize();
+		final List<Long> ids = new ArrayList<>( 100 );
+		while ( ids.size() < 100 ) {
+			// the block ending at the returned value, as with Hibernate's pooled optimizer
+			final long hi = reserveBlock( connection, generator );
+			for ( long id = hi - incrementSize + 1; id <= hi && ids.size() < 100; id++ ) {
+				ids.add( id );
+			}
+		}
+
+		try ( PreparedStatement statement = connection.prepareStatement( "insert into things (name, id) values (?, ?)" ) ) {
+			for ( long id : ids ) {
+				statement.setString( 1, "scenario" );
+				statement.setLong( 2, id );
+				statement.executeUpdate();
+			}
+		}
+	}
+
+	/// Hibernate reads and updates the generator row in a separate transaction;
+	/// here the update and read are a single statement (SQL Server `output`)
+	private static long reserveBlock(Connection connection, TableGenerator generator) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement(
+				"update " + generator.getTableName()
+						+ " set " + generator.getValueColumnName() + " = " + generator.getValueColumnName() + " + ?"
+						+ " output deleted." + generator.getValueColumnName()
+						+ " where " + generator.getSegmentColumnName() + " = ?" ) ) {
+			statement.setInt( 1, generator.getIncrementSize() );
+			statement.setString( 2, generator.getSegmentValue() );
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				if ( !resultSet.next() ) {
+					throw new IllegalStateException( "No row for segment '" + generator.getSegmentValue()
+							+ "' in " + generator.getTableName() + " - run the Hibernate scenario first" );
+				}
+				return resultSet.getLong( 1 );
+			}
+		}
+	}
+
+	private static void consume(Object value) {
+		sink = value;
+	}
+}
@@ -0,0 +1,276 @@
+package org.hibernate.test.liberty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+
+/// Keyset (a.k.a. seek) pagination over a selection query, as an alternative to
+/// offset/fetch whose cost grows with the offset.
+///
+/// Each page restricts on the ordering keys of the last row of the previous page,
+/// so the database can seek on an index over those keys.  The position is handed
+/// to clients as an opaque cursor token built from those keys.  The ordering must
+/// be total - end it with the id - and can only use attributes, not functions.
+///
+/// ```java
+/// var pager = new KeysetPager<>( "from Book", Book.class, 50,
+/// 		List.of( Order.asc( Book.class, "publishDate" ), Order.asc( Book.class, "id" ) ) );
+/// var page = pager.first( session );
+/// page = pager.next( session, page.nextCursor() );
+/// ```
+///
+/// Cursors come from clients, so a token is not deserialized but read field by field:
+/// the page number, then each key value as the type of its attribute (see
+/// [#KEY_TYPES]).  Tokens are at most [#MAX_TOKEN_LENGTH] characters and signed with
+/// an HMAC, so that clients cannot forge a page number or key.  The secret is random
+/// per pager unless given, which it has to be for tokens to be accepted by other
+/// nodes or after a restart.
+///
+/// @see org.hibernate.query.SelectionQuery#getKeyedResultList
+public class KeysetPager<R> {
+	/// One page of results, along with the token for the next page (`null` for the last page)
+	public record Slice<R>(List<R> results, int pageNumber, String nextCursor) {
+	}
+
+	public static final int MAX_TOKEN_LENGTH = 1024;
+
+	/// The attribute types supported as keys
+	public static final List<Class<?>> KEY_TYPES = List.of(
+			Integer.class, Long.class, String.class, BigDecimal.class, UUID.class,
+			Instant.class, LocalDate.class, LocalDateTime.class
+	);
+
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+	private static final int MAC_LENGTH = 32;
+
+	private final String hql;
+	private final Class<R> resultType;
+	private final int pageSize;
+	private final List<Order<? super R>> keyDefinition;
+	private final SecretKeySpec secret;
+
+	private volatile List<Class<?>> keyTypes;
+
+	public KeysetPager(String hql, Class<R> resultType, int pageSize, List<Order<? super R>> keyDefinition) {
+		this( hql, resultType, pageSize, keyDefinition, randomSecret() );
+	}
+
+	/// @param secret The key for signing cursor tokens, at least 32 bytes
+	public KeysetPager(String hql, Class<R> resultType, int pageSize, List<Order<? super R>> keyDefinition, byte[] secret) {
+		if ( secret.length < MAC_LENGTH ) {
+			throw new IllegalArgumentException( "Cursor secret must be at least " + MAC_LENGTH + " bytes" );
+		}
+		this.hql = hql;
+		this.resultType = resultType;
+		this.pageSize = pageSize;
+		this.keyDefinition = keyDefinition;
+		this.secret = new SecretKeySpec( secret, MAC_ALGORITHM );
+	}
+
+	private static byte[] randomSecret() {
+		final byte[] secret = new byte[MAC_LENGTH];
+		new SecureRandom().nextBytes( secret );
+		return secret;
+	}
+
+	public Slice<R> first(SharedSessionContract session) {
+		return fetch( session, Page.first( pageSize ).keyedBy( keyDefinition ) );
+	}
+
+	public Slice<R> next(SharedSessionContract session, String cursor) {
+		final KeyedPage<R> page = decode( session, cursor );
+		return fetch( session, page );
+	}
+
+	private Slice<R> fetch(SharedSessionContract session, KeyedPage<R> page) {
+		final KeyedResultList<R> results = session.createSelectionQuery( hql, resultType ).getKeyedResultList( page );
+		final KeyedPage<R> nextPage = results.getNextPage();
+		return new Slice<>(
+				results.getResultList(),
+				page.getPage().getNumber(),
+				results.isLastPage() || nextPage == null ? null : encode( session, nextPage )
+		);
+	}
+
+	/// The cursor token for the given page, keyed by this pager's key definition
+	public String encode(SharedSessionContract session, KeyedPage<?> page) {
+		final List<Class<?>> types = keyTypes( session );
+		final List<Comparable<?>> key = page.getKey();
+		if ( key.size() != types.size() ) {
+			throw new IllegalArgumentException( "Expecting " + types.size() + " key values, not " + key );
+		}
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			out.writeInt( page.getPage().getNumber() );
+			for ( int i = 0; i < types.size(); i++ ) {
+				writeValue( out, types.get( i ), key.get( i ) );
+			}
+			out.write( mac( bytes.toByteArray() ) );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+		final String token = Base64.getUrlEncoder().withoutPadding().encodeToString( bytes.toByteArray() );
+		if ( token.length() > MAX_TOKEN_LENGTH ) {
+			throw new IllegalArgumentException( "Page key too long for a cursor: " + key );
+		}
+		return token;
+	}
+
+	private KeyedPage<R> decode(SharedSessionContract session, String token) {
+		final List<Class<?>> types = keyTypes( session );
+		try {
+			if ( token.length() > MAX_TOKEN_LENGTH ) {
+				throw new IllegalArgumentException( "Cursor too long" );
+			}
+			final byte[] bytes = Base64.getUrlDecoder().decode( token );
+			if ( bytes.length < MAC_LENGTH ) {
+				throw new IllegalArgumentException( "Cursor too short" );
+			}
+			final byte[] content = Arrays.copyOf( bytes, bytes.length - MAC_LENGTH );
+			if ( !MessageDigest.isEqual( mac( content ), Arrays.copyOfRange( bytes, content.length, bytes.length ) ) ) {
+				throw new IllegalArgumentException( "Cursor signature mismatch" );
+			}
+			try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( content ) ) ) {
+				final int pageNumber = in.readInt();
+				if ( pageNumber < 1 ) {
+					throw new IllegalArgumentException( "Cursor page number " + pageNumber );
+				}
+				final List<Comparable<?>> key = new ArrayList<>( types.size() );
+				for ( Class<?> type : types ) {
+					key.add( readValue( in, type ) );
+				}
+				if ( in.available() > 0 ) {
+					throw new IllegalArgumentException( "Trailing bytes in cursor" );
+				}
+				return Page.page( pageSize, pageNumber )
+						.keyedBy( keyDefinition )
+						.withKey( key, KeyedPage.KeyInterpretation.KEY_OF_LAST_ON_PREVIOUS_PAGE );
+			}
+		}
+		catch (IOException | IllegalArgumentException e) {
+			throw new IllegalArgumentException( "Invalid pagination cursor", e );
+		}
+	}
+
+	/// The Java types of the key attributes, resolved from the metamodel on first use
+	private List<Class<?>> keyTypes(SharedSessionContract session) {
+		List<Class<?>> types = keyTypes;
+		if ( types == null ) {
+			final var metamodel = ( (SharedSessionContractImplementor) session ).getFactory().getMetamodel();
+			types = new ArrayList<>( keyDefinition.size() );
+			for ( Order<? super R> order : keyDefinition ) {
+				final Class<?> type = metamodel.entity( order.getEntityClass() ).getAttribute( order.getAttributeName() ).getJavaType();
+				final Class<?> boxed = type == int.class ? Integer.class : type == long.class ? Long.class : type;
+				if ( !KEY_TYPES.contains( boxed ) ) {
+					throw new IllegalArgumentException( "Unsupported key type " + type.getName() + " of " + order.getAttributeName() );
+				}
+				types.add( boxed );
+			}
+			keyTypes = types = List.copyOf( types );
+		}
+		return types;
+	}
+
+	private static void writeValue(DataOutputStream out, Class<?> type, Object value) throws IOException {
+		out.writeBoolean( value != null );
+		if ( value == null ) {
+			return;
+		}
+		if ( !type.isInstance( value ) ) {
+			throw new IllegalArgumentException( "Expecting a key value of type " + type.getName() + ", not " + value );
+		}
+		if ( value instanceof Integer integer ) {
+			out.writeInt( integer );
+		}
+		else if ( value instanceof Long longValue ) {
+			out.writeLong( longValue );
+		}
+		else if ( value instanceof String string ) {
+			out.writeUTF( string );
+		}
+		else if ( value instanceof BigDecimal decimal ) {
+			out.writeUTF( decimal.toString() );
+		}
+		else if ( value instanceof UUID uuid ) {
+			out.writeLong( uuid.getMostSignificantBits() );
+			out.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof Instant instant ) {
+			out.writeLong( instant.getEpochSecond() );
+			out.writeInt( instant.getNano() );
+		}
+		else if ( value instanceof LocalDate date ) {
+			out.writeLong( date.toEpochDay() );
+		}
+		else if ( value instanceof LocalDateTime dateTime ) {
+			out.writeLong( dateTime.toEpochSecond( ZoneOffset.UTC ) );
+			out.writeInt( dateTime.getNano() );
+		}
+	}
+
+	private static Comparable<?> readValue(DataInputStream in, Class<?> type) throws IOException {
+		if ( !in.readBoolean() ) {
+			return null;
+		}
+		if ( type == Integer.class ) {
+			return in.readInt();
+		}
+		else if ( type == Long.class ) {
+			return in.readLong();
+		}
+		else if ( type == String.class ) {
+			return in.readUTF();
+		}
+		else if ( type == BigDecimal.class ) {
+			return new BigDecimal( in.readUTF() );
+		}
+		else if ( type == UUID.class ) {
+			return new UUID( in.readLong(), in.readLong() );
+		}
+		else if ( type == Instant.class ) {
+			return Instant.ofEpochSecond( in.readLong(), in.readInt() );
+		}
+		else if ( type == LocalDate.class ) {
+			return LocalDate.ofEpochDay( in.readLong() );
+		}
+		else {
+			return LocalDateTime.ofEpochSecond( in.readLong(), in.readInt(), ZoneOffset.UTC );
+		}
+	}
+
+	private byte[] mac(byte[] content) {
+		try {
+			final Mac mac = Mac.getInstance( MAC_ALGORITHM );
+			mac.init( secret );
+			return mac.doFinal( content );
+		}
+		catch (GeneralSecurityException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package org.hibernate.test.liberty;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests [KeysetPager] paging through Books ordered by `(publishDate, id)`, and
+/// compares the latency of fetching page N using offset/fetch versus keyset
+/// pagination, written to `build/benchmarks/keyset-pagination.csv`.
+@DomainModel(annotatedClasses = Book.class)
+@SessionFactory
+public class KeysetPaginationTests {
+	private static final String HQL = "from Book";
+	private static final List<Order<? super Book>> KEY = List.of(
+			Order.asc( Book.class, "publishDate" ),
+			Order.asc( Book.class, "id" )
+	);
+
+	@Test
+	void testPaging(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).books( 25 );
+		// ties on publishDate at positions 7-13, spanning the boundary of pages 0 and 1
+		factoryScope.inTransaction( (session) -> session.createMutationQuery( "update Book set publishDate = :date where id between 8 and 14" )
+				.setParameter( "date", DataGenerator.EPOCH.plus( Duration.ofMinutes( 8 ) ) )
+				.executeUpdate() );
+
+		final KeysetPager<Book> pager = new KeysetPager<>( HQL, Book.class, 10, KEY );
+		final List<List<Integer>> pages = new ArrayList<>();
+		factoryScope.inSession( (session) -> {
+			KeysetPager.Slice<Book> slice = pager.first( session );
+			pages.add( slice.results().stream().map( Book::getId ).toList() );
+			while ( slice.nextCursor() != null ) {
+				slice = pager.next( session, slice.nextCursor() );
+				pages.add( slice.results().stream().map( Book::getId ).toList() );
+			}
+			assertThat( slice.pageNumber() ).isEqualTo( 2 );
+		} );
+		assertThat( pages.get( 0 ) ).endsWith( 8, 9, 10 );
+		assertThat( pages.get( 1 ) ).startsWith( 11, 12, 13, 14 );
+
+		final List<Integer> expected = factoryScope.fromSession( (session) -> session
+				.createSelectionQuery( "select id from Book order by publishDate, id", Integer.class )
+				.list() );
+		assertThat( pages.stream().flatMap( List::stream ).toList() ).hasSize( 25 ).isEqualTo( expected );
+	}
+
+	@Test
+	void testInvalidCursor(SessionFactoryScope factoryScope) {
+		final KeysetPager<Book> pager = new KeysetPager<>( HQL, Book.class, 10, KEY );
+		factoryScope.inSession( (session) -> assertThatThrownBy( () -> pager.next( session, "not-a-cursor" ) )
+				.isInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Test
+	void testForgedCursor(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).books( 25 );
+
+		final KeysetPager<Book> pager = new KeysetPager<>( HQL, Book.class, 10, KEY );
+		factoryScope.inSession( (session) -> {
+			final String cursor = pager.first( session ).nextCursor();
+			assertThat( pager.next( session, cursor ).results() ).hasSize( 10 );
+
+			// altered page number or key
+			final char[] altered = cursor.toCharArray();
+			altered[2] = altered[2] == 'A' ? 'B' : 'A';
+			assertThatThrownBy( () -> pager.next( session, new String( altered ) ) )
+					.isInstanceOf( IllegalArgumentException.class );
+			// signed by another pager
+			assertThatThrownBy( () -> new KeysetPager<>( HQL, Book.class, 10, KEY ).next( session, cursor ) )
+					.isInstanceOf( IllegalArgumentException.class );
+			assertThatThrownBy( () -> pager.next( session, "A".repeat( KeysetPager.MAX_TOKEN_LENGTH + 1 ) ) )
+					.isInstanceOf( IllegalArgumentException.class );
+		} );
+	}
+
+	@Test
+	@Tag(Benchmarks.TAG)
+	void testOffsetVersusKeyset(SessionFactoryScope factoryScope) {
+		final int rows = Benchmarks.intValue( "liberty.keyset.rows", 1_000_000 );
+		final int pageSize = Benchmarks.intValue( "liberty.keyset.page_size", 50 );
+		new DataGenerator( factoryScope.getSessionFactory() ).books( rows );
+		factoryScope.inTransaction( (session) -> session.doWork( (connection) -> {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.execute( "create index books_publish_date_id on books (publishDate, id)" );
+			}
+		} ) );
+
+		final KeysetPager<Book> pager = new KeysetPager<>( HQL, Book.class, pageSize, KEY );
+		try ( var report = new BenchmarkReport( "keyset-pagination", "rows", "page_size", "page", "mode", "p50_millis", "max_millis" ) ) {
+			factoryScope.inSession( (session) -> {
+				for ( int page : Benchmarks.intList( "liberty.keyset.pages", "1,100,1000,10000" ) ) {
+					if ( (long) page * pageSize >= rows ) {
+						continue;
+					}
+					final String cursor = cursor( session, pager, page, pageSize );
+					final long[] offset = measure( session, () -> session
+							.createSelectionQuery( HQL + " order by publishDate, id", Book.class )
+							.setFirstResult( page * pageSize )
+							.setMaxResults( pageSize )
+							.list() );
+					final long[] keyset = measure( session, () -> pager.next( session, cursor ) );
+
+					report.row( rows, pageSize, page, "offset", Benchmarks.millis( Benchmarks.percentile( offset, 50 ) ), Benchmarks.millis( Benchmarks.percentile( offset, 100 ) ) );
+					report.row( rows, pageSize, page, "keyset", Benchmarks.millis( Benchmarks.percentile( keyset, 50 ) ), Benchmarks.millis( Benchmarks.percentile( keyset, 100 ) ) );
+				}
+			} );
+		}
+	}
+
+	/// The cursor for the (zero-based) page, as a client would have received with the previous page
+	private static String cursor(Session session, KeysetPager<Book> pager, int page, int pageSize) {
+		final Object[] last = session
+				.createSelectionQuery( "select publishDate, id from Book order by publishDate, id", Object[].class )
+				.setFirstResult( page * pageSize - 1 )
+				.setMaxResults( 1 )
+				.getSingleResult();
+		final KeyedPage<Book> keyedPage = Page.page( pageSize, page )
+				.keyedBy( KEY )
+				.withKey( List.<Comparable<?>>of( (Comparable<?>) last[0], (Comparable<?>) last[1] ), KeyedPage.KeyInterpretation.KEY_OF_LAST_ON_PREVIOUS_PAGE );
+		return pager.encode( session, keyedPage );
+	}
+
+	/// @return The sorted timings, in nanoseconds, after one warm-up run
+	private static long[] measure(Session session, Runnable action) {
+		action.run();
+		session.clear();
+		final long[] times = new long[Benchmarks.iterations()];
+		for ( int i = 0; i < times.length; i++ ) {
+			times[i] = Benchmarks.time( action );
+			session.clear();
+		}
+		Arrays.sort( times );
+		return times;
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
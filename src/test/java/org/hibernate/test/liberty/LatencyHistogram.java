@@ -0,0 +1,112 @@
+package org.hibernate.test.liberty;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A concurrent latency histogram in the style of HdrHistogram: values (nanoseconds)
+/// are counted in log-linear buckets - each power of two is split into 16 sub-buckets -
+/// giving percentiles within ~6% of the recorded value at constant memory, from
+/// nanoseconds up to centuries.
+///
+/// Recording is lock-free; [#snapshot()] gives an immutable copy, and snapshots can
+/// be subtracted to get the distribution of an interval.
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = ( 64 - SUB_BUCKET_BITS ) * SUB_BUCKETS;
+
+	/// Immutable state of a histogram
+	public record Snapshot(long[] counts, long count, long sumNanos, long maxNanos) {
+		public double meanNanos() {
+			return count == 0 ? 0 : (double) sumNanos / count;
+		}
+
+		/// The (upper bound of the bucket holding the) value at the given percentile (0-100)
+		public long percentileNanos(double percentile) {
+			if ( count == 0 ) {
+				return 0;
+			}
+			final long rank = Math.max( 1, (long) Math.ceil( percentile / 100d * count ) );
+			long cumulative = 0;
+			for ( int i = 0; i < counts.length; i++ ) {
+				cumulative += counts[i];
+				if ( cumulative >= rank ) {
+					return Math.min( upperBound( i ), maxNanos );
+				}
+			}
+			return maxNanos;
+		}
+
+		/// The number of values less than or equal to the given one, exact when it is a
+		/// power of two minus one (the upper bound of a bucket)
+		public long countAtOrBelow(long nanos) {
+			long cumulative = 0;
+			for ( int i = 0; i < counts.length && upperBound( i ) <= nanos; i++ ) {
+				cumulative += counts[i];
+			}
+			return cumulative;
+		}
+
+		/// The distribution of values recorded since `earlier`.  The maximum cannot be
+		/// subtracted, so is that of this snapshot.
+		public Snapshot minus(Snapshot earlier) {
+			final long[] difference = new long[counts.length];
+			for ( int i = 0; i < counts.length; i++ ) {
+				difference[i] = counts[i] - earlier.counts[i];
+			}
+			return new Snapshot( difference, count - earlier.count, sumNanos - earlier.sumNanos, maxNanos );
+		}
+	}
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator( Math::max, 0 );
+
+	public void record(long nanos) {
+		final long value = Math.max( 0, nanos );
+		counts.incrementAndGet( index( value ) );
+		count.increment();
+		sum.add( value );
+		max.accumulate( value );
+	}
+
+	public Snapshot snapshot() {
+		final long[] copy = new long[BUCKETS];
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			copy[i] = counts.get( i );
+		}
+		return new Snapshot( copy, count.sum(), sum.sum(), max.get() );
+	}
+
+	public void reset() {
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			counts.set( i, 0 );
+		}
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+	static int index(long value) {
+		if ( value < SUB_BUCKETS ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+		return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS + subBucket;
+	}
+
+	static long lowerBound(int index) {
+		if ( index < SUB_BUCKETS ) {
+			return index;
+		}
+		final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		return (long) ( SUB_BUCKETS + index % SUB_BUCKETS ) << ( exponent - SUB_BUCKET_BITS );
+	}
+
+	static long upperBound(int index) {
+		return index == BUCKETS - 1 ? Long.MAX_VALUE : lowerBound( index + 1 ) - 1;
+	}
+}
@@ -0,0 +1,163 @@
+package org.hibernate.test.liberty;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/// Extends [QueryPlanStatistics] with [latency histograms][LatencyHistogram] for
+/// query execution, entity load and flush, rather than only running totals.
+///
+/// Hibernate only times query execution to the millisecond, so the JDBC statements
+/// of each session are timed in nanoseconds by a [StatementTimer], and the time of
+/// the statement just executed is recorded when Hibernate reports a query.  Loads
+/// and flushes are timed by the [Listeners] registered around the standard event
+/// listeners.
+///
+/// Enabled with
+/// ```
+/// hibernate.generate_statistics=true
+/// hibernate.stats.factory=org.hibernate.test.liberty.LatencyStatistics$Factory
+/// hibernate.session.events.auto=org.hibernate.test.liberty.LatencyStatistics$StatementTimer
+/// ```
+/// plus the [Listeners] integrator.  See [StatisticsSnapshot] and [MetricsExporter]
+/// for getting the numbers out.
+public class LatencyStatistics extends QueryPlanStatistics {
+	public static final String QUERY = "query";
+	public static final String LOAD = "load";
+	public static final String FLUSH = "flush";
+
+	public static class Factory implements StatisticsFactory {
+		@Override
+		public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+			return new LatencyStatistics( sessionFactory );
+		}
+	}
+
+	/// Registers listeners before and after the standard load and flush listeners,
+	/// timing the events in between
+	public static class Listeners implements Integrator {
+		@Override
+		public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+			final EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService( EventListenerRegistry.class );
+
+			final EventTimer loadTimer = new EventTimer( LOAD );
+			registry.prependListeners( EventType.LOAD, (LoadEventListener) (event, loadType) -> loadTimer.start( event, event.getSession() ) );
+			registry.appendListeners( EventType.LOAD, (LoadEventListener) (event, loadType) -> loadTimer.stop( event, event.getSession() ) );
+
+			final EventTimer flushTimer = new EventTimer( FLUSH );
+			registry.prependListeners( EventType.FLUSH, (FlushEventListener) (event) -> flushTimer.start( event, event.getSession() ) );
+			registry.appendListeners( EventType.FLUSH, (FlushEventListener) (event) -> flushTimer.stop( event, event.getSession() ) );
+		}
+	}
+
+	/// Times the JDBC statements of one session.  Hibernate reports an executed query
+	/// right after executing its statement, on the same thread, so the time is handed
+	/// over per thread and taken by [#queryExecuted].
+	public static class StatementTimer implements SessionEventListener {
+		private static final ThreadLocal<long[]> LAST_STATEMENT = ThreadLocal.withInitial( () -> new long[] { -1 } );
+
+		private long start;
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			start = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteStatementEnd() {
+			LAST_STATEMENT.get()[0] = System.nanoTime() - start;
+		}
+
+		/// The nanoseconds of the statement last executed on this thread, or -1 if
+		/// none was timed since the last call
+		private static long take() {
+			final long[] last = LAST_STATEMENT.get();
+			final long nanos = last[0];
+			last[0] = -1;
+			return nanos;
+		}
+	}
+
+	/// Start times of in-progress events of one type, per session (loads can nest).
+	/// An event which fails is never stopped, so the start times of a session are
+	/// dropped when it ends.
+	private static class EventTimer {
+		private final String histogram;
+		private final Map<EventSource, Map<Object, Long>> startTimes = new ConcurrentHashMap<>();
+
+		private EventTimer(String histogram) {
+			this.histogram = histogram;
+		}
+
+		private void start(Object event, EventSource session) {
+			startTimes.computeIfAbsent( session, this::sessionStartTimes ).put( event, System.nanoTime() );
+		}
+
+		private Map<Object, Long> sessionStartTimes(EventSource session) {
+			session.getEventListenerManager().addListener( new SessionEventListener() {
+				@Override
+				public void end() {
+					startTimes.remove( session );
+				}
+			} );
+			return new IdentityHashMap<>();
+		}
+
+		private void stop(Object event, EventSource session) {
+			final Map<Object, Long> sessionStartTimes = startTimes.get( session );
+			final Long start = sessionStartTimes == null ? null : sessionStartTimes.remove( event );
+			if ( start != null && session.getFactory().getStatistics() instanceof LatencyStatistics statistics ) {
+				statistics.getHistogram( histogram ).record( System.nanoTime() - start );
+			}
+		}
+	}
+
+	private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+
+	public LatencyStatistics(SessionFactoryImplementor sessionFactory) {
+		super( sessionFactory );
+		histograms.put( QUERY, new LatencyHistogram() );
+		histograms.put( LOAD, new LatencyHistogram() );
+		histograms.put( FLUSH, new LatencyHistogram() );
+	}
+
+	/// The histograms by name ([#QUERY], [#LOAD], [#FLUSH])
+	public Map<String, LatencyHistogram> getHistograms() {
+		return histograms;
+	}
+
+	public LatencyHistogram getHistogram(String name) {
+		return histograms.get( name );
+	}
+
+	/// Records the time of the query's statement, if a [StatementTimer] timed it;
+	/// Hibernate's own `time` is in whole milliseconds, too coarse for the histogram
+	@Override
+	public void queryExecuted(String hql, int rows, long time) {
+		super.queryExecuted( hql, rows, time );
+		final long nanos = StatementTimer.take();
+		if ( nanos >= 0 ) {
+			histograms.get( QUERY ).record( nanos );
+		}
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		histograms.values().forEach( LatencyHistogram::reset );
+	}
+}
@@ -0,0 +1,139 @@
+package org.hibernate.test.liberty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.SessionFactory;
+
+import org.hibernate.test.liberty.Scenarios.Scenario;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/// Runs [scenarios][Scenarios] concurrently against a shared SessionFactory, each
+/// worker being either a platform thread or a virtual thread (one per simulated
+/// request).
+///
+/// While the load runs, JFR events are streamed to detect
+/// * virtual threads pinned to their carrier (`jdk.VirtualThreadPinned`), e.g. by
+/// 	JDBC or Hibernate code blocking while holding a monitor
+/// * contended monitors (`jdk.JavaMonitorEnter`) and parked threads (`jdk.ThreadPark`),
+/// 	e.g. on plan caches, identifier generators or the connection pool
+///
+/// Each is attributed to the first Hibernate or driver frame of its stack trace.
+public class LoadGenerator {
+	private static final Duration EVENT_THRESHOLD = Duration.ofMillis( 1 );
+	private static final List<String> ATTRIBUTED_PACKAGES = List.of( "org.hibernate.", "com.microsoft.sqlserver." );
+
+	/// @param firstFailure The exception of the first failed operation, if any
+	/// @param contention Counts per event type and code location
+	public record Result(
+			int concurrency,
+			boolean virtualThreads,
+			long operations,
+			long failures,
+			RuntimeException firstFailure,
+			Duration elapsed,
+			Map<String, Map<String, Long>> contention) {
+		public double throughput() {
+			return operations / ( elapsed.toNanos() / 1_000_000_000d );
+		}
+	}
+
+	private final SessionFactory sessionFactory;
+	private final List<Scenario> scenarios;
+
+	public LoadGenerator(SessionFactory sessionFactory, List<Scenario> scenarios) {
+		this.sessionFactory = sessionFactory;
+		this.scenarios = scenarios;
+	}
+
+	public Result run(int concurrency, boolean virtualThreads, Duration duration) throws Exception {
+		final Map<String, Map<String, Long>> contention = new ConcurrentHashMap<>();
+		final AtomicLong operations = new AtomicLong();
+		final AtomicLong failures = new AtomicLong();
+		final AtomicReference<RuntimeException> firstFailure = new AtomicReference<>();
+
+		try ( RecordingStream recording = new RecordingStream() ) {
+			for ( String eventType : List.of( "jdk.VirtualThreadPinned", "jdk.JavaMonitorEnter", "jdk.ThreadPark" ) ) {
+				recording.enable( eventType ).withThreshold( EVENT_THRESHOLD ).withStackTrace();
+				recording.onEvent( eventType, (event) -> contention
+						.computeIfAbsent( eventType, (key) -> new ConcurrentHashMap<>() )
+						.merge( describe( event ), 1L, Long::sum ) );
+			}
+			recording.startAsync();
+
+			final long start = System.nanoTime();
+			final long deadline = start + duration.toNanos();
+			final List<Future<?>> workers = new ArrayList<>();
+			try ( ExecutorService executor = virtualThreads
+					? Executors.newVirtualThreadPerTaskExecutor()
+					: Executors.newFixedThreadPool( concurrency ) ) {
+				for ( int worker = 0; worker < concurrency; worker++ ) {
+					final int offset = worker;
+					workers.add( executor.submit( () -> {
+						for ( int i = offset; System.nanoTime() < deadline; i++ ) {
+							final Scenario scenario = scenarios.get( i % scenarios.size() );
+							try {
+								sessionFactory.inTransaction( scenario.action() );
+								operations.incrementAndGet();
+							}
+							catch (RuntimeException e) {
+								failures.incrementAndGet();
+								firstFailure.compareAndSet( null, e );
+							}
+						}
+					} ) );
+				}
+			}
+			final Duration elapsed = Duration.ofNanos( System.nanoTime() - start );
+			for ( Future<?> worker : workers ) {
+				worker.get();
+			}
+
+			// flushes outstanding events
+			recording.stop();
+
+			return new Result( concurrency, virtualThreads, operations.get(), failures.get(), firstFailure.get(), elapsed, contention );
+		}
+	}
+
+	private static String describe(RecordedEvent event) {
+		final String location = location( event );
+		for ( String field : List.of( "monitorClass", "parkedClass" ) ) {
+			if ( event.hasField( field ) ) {
+				final RecordedClass recordedClass = event.getValue( field );
+				if ( recordedClass != null ) {
+					return recordedClass.getName() + " @ " + location;
+				}
+			}
+		}
+		return location;
+	}
+
+	private static String location(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return "<unknown>";
+		}
+		final List<RecordedFrame> frames = event.getStackTrace().getFrames();
+		for ( RecordedFrame frame : frames ) {
+			final String typeName = frame.getMethod().getType().getName();
+			if ( ATTRIBUTED_PACKAGES.stream().anyMatch( typeName::startsWith ) ) {
+				return typeName + "#" + frame.getMethod().getName() + ":" + frame.getLineNumber();
+			}
+		}
+		return frames.isEmpty()
+				? "<unknown>"
+				: frames.getFirst().getMethod().getType().getName() + "#" + frames.getFirst().getMethod().getName();
+	}
+}
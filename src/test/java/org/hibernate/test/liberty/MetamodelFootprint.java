@@ -0,0 +1,196 @@
+package org.hibernate.test.liberty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.SchemaToolingSettings;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.service.UnknownUnwrapTypeException;
+
+/// Measures the memory footprint of the SessionFactory built for a domain model, as
+/// matters when many applications, each with its own SessionFactory, share one JVM.
+///
+/// Several copies of the SessionFactory are built and kept reachable; the growth of
+/// the used heap (after forcing GC), divided by the number of copies, approximates the
+/// retained size of one.  The growth of metaspace and of the loaded class count is
+/// reported as a whole, since classes are shared by the copies.
+///
+/// Heap is not broken down by object graph (that needs a heap dump); instead the size
+/// of each subsystem is reported - entity and collection persisters, functions in the
+/// SQM function registry, named queries and result set mappings - and the cache of HQL
+/// interpretations is measured separately, by filling it with a select and a count
+/// query per entity.  Those queries are not executed (there is no database, see below),
+/// so no SQL query plans are cached or measured.
+///
+/// The SessionFactories are built without a database: no connection pool (whatever
+/// `hibernate.properties` or `-PcontainerPool` configure), no JDBC metadata access and
+/// no schema export, so that only the metamodel is measured.
+public class MetamodelFootprint {
+	public record Measurement(
+			String model,
+			long entityPersisters,
+			long collectionPersisters,
+			long sqmFunctions,
+			int namedObjects,
+			long heapBytes,
+			long metaspaceBytes,
+			int loadedClasses,
+			int cachedHqlInterpretations,
+			long interpretationCacheHeapBytes) {
+	}
+
+	private record Snapshot(long heap, long metaspace, int loadedClasses) {
+	}
+
+	private final int copies;
+
+	public MetamodelFootprint(int copies) {
+		this.copies = copies;
+	}
+
+	public Measurement measure(String model, List<Class<?>> annotatedClasses) {
+		final List<SessionFactoryImplementor> sessionFactories = new ArrayList<>( copies );
+		try {
+			final Snapshot before = snapshot();
+			for ( int i = 0; i < copies; i++ ) {
+				sessionFactories.add( buildSessionFactory( annotatedClasses ) );
+			}
+			final Snapshot built = snapshot();
+
+			sessionFactories.forEach( MetamodelFootprint::fillInterpretationCache );
+			final Snapshot filled = snapshot();
+
+			final SessionFactoryImplementor sessionFactory = sessionFactories.getFirst();
+			final MappingMetamodel mappingMetamodel = sessionFactory.getMappingMetamodel();
+			final QueryInterpretationCache interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+			return new Measurement(
+					model,
+					mappingMetamodel.streamEntityDescriptors().count(),
+					mappingMetamodel.streamCollectionDescriptors().count(),
+					sessionFactory.getQueryEngine().getSqmFunctionRegistry().getFunctionsByName().count(),
+					countNamedObjects( sessionFactory.getQueryEngine().getNamedObjectRepository() ),
+					( built.heap() - before.heap() ) / copies,
+					built.metaspace() - before.metaspace(),
+					built.loadedClasses() - before.loadedClasses(),
+					interpretationCache.getNumberOfCachedHqlInterpretations(),
+					( filled.heap() - built.heap() ) / copies
+			);
+		}
+		finally {
+			sessionFactories.forEach( SessionFactoryImplementor::close );
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(List<Class<?>> annotatedClasses) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( JdbcSettings.CONNECTION_PROVIDER, new NoConnectionProvider() )
+				.applySetting( JdbcSettings.ALLOW_METADATA_ON_BOOT, false )
+				.applySetting( AvailableSettings.DIALECT, SQLServerDialect.class.getName() )
+				.applySetting( SchemaToolingSettings.HBM2DDL_AUTO, "none" )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( registry );
+			annotatedClasses.forEach( metadataSources::addAnnotatedClass );
+			return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/// Interprets (without executing) a select and a count query per entity
+	private static void fillInterpretationCache(SessionFactoryImplementor sessionFactory) {
+		final List<String> entityNames = sessionFactory.getMappingMetamodel()
+				.streamEntityDescriptors()
+				.map( EntityPersister::getJpaEntityName )
+				.toList();
+		try ( Session session = sessionFactory.openSession() ) {
+			for ( String entityName : entityNames ) {
+				session.createSelectionQuery( "from " + entityName, Object.class );
+				session.createSelectionQuery( "select count(*) from " + entityName, Long.class );
+			}
+		}
+	}
+
+	private static int countNamedObjects(NamedObjectRepository repository) {
+		final AtomicInteger count = new AtomicInteger();
+		repository.visitSqmQueryMementos( (memento) -> count.incrementAndGet() );
+		repository.visitNativeQueryMementos( (memento) -> count.incrementAndGet() );
+		repository.visitCallableQueryMementos( (memento) -> count.incrementAndGet() );
+		repository.visitResultSetMappingMementos( (memento) -> count.incrementAndGet() );
+		return count.get();
+	}
+
+	private static Snapshot snapshot() {
+		for ( int i = 0; i < 3; i++ ) {
+			System.gc();
+			try {
+				Thread.sleep( 50 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		final long metaspace = ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter( (pool) -> pool.getName().equals( "Metaspace" ) )
+				.map( MemoryPoolMXBean::getUsage )
+				.mapToLong( MemoryUsage::getUsed )
+				.sum();
+		return new Snapshot(
+				ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+				metaspace,
+				ManagementFactory.getClassLoadingMXBean().getLoadedClassCount()
+		);
+	}
+
+	/// Stands in for the connection pool, which would otherwise open its initial
+	/// connections (and their driver state) as part of each SessionFactory
+	private static class NoConnectionProvider implements ConnectionProvider {
+		@Override
+		public Connection getConnection() throws SQLException {
+			throw new SQLException( "No connections while measuring the metamodel footprint" );
+		}
+
+		@Override
+		public void closeConnection(Connection connection) {
+		}
+
+		@Override
+		public boolean supportsAggressiveRelease() {
+			return false;
+		}
+
+		@Override
+		public boolean isUnwrappableAs(Class<?> unwrapType) {
+			return unwrapType.isAssignableFrom( getClass() );
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> unwrapType) {
+			if ( isUnwrappableAs( unwrapType ) ) {
+				return unwrapType.cast( this );
+			}
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+}
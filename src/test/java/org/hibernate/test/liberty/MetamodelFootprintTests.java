@@ -0,0 +1,80 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+
+import org.hibernate.Version;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Reports the [footprint][MetamodelFootprint] of the SessionFactory for each of the
+/// domain models used by the tests here, from the single Book up to the union of the
+/// five entities, to `build/benchmarks/metamodel-footprint.csv` (tagged with the ORM
+/// version so that runs against different versions can be compared).
+///
+/// Setting `liberty.footprint.max_heap_kb` fails the test if any model exceeds it.
+@Tag(Benchmarks.TAG)
+public class MetamodelFootprintTests {
+	private record Model(String name, List<Class<?>> annotatedClasses) {
+	}
+
+	private static final List<Model> MODELS = List.of(
+			new Model( "book", List.of( Book.class ) ),
+			new Model( "date-types", List.of( DateTypeTests.TheEntity.class ) ),
+			new Model( "null-version", List.of( NullVersionTests.TheEntity.class ) ),
+			new Model( "group-by", List.of( QueryGroupByTests.Person.class, QueryGroupByTests.Name.class ) ),
+			new Model( "table-generation", List.of( TableGenerationTests.Things.class, TableGenerationTests.MoreThings.class ) ),
+			new Model( "nested-composite-key", List.of(
+					NestedCompositeKeyTests.Level3.class,
+					NestedCompositeKeyTests.Level2.class,
+					NestedCompositeKeyTests.Level1.class,
+					NestedCompositeKeyTests.Something.class
+			) ),
+			new Model( "union", List.of(
+					Book.class,
+					QueryGroupByTests.Person.class,
+					QueryGroupByTests.Name.class,
+					NestedCompositeKeyTests.Level3.class,
+					NestedCompositeKeyTests.Level2.class,
+					NestedCompositeKeyTests.Level1.class,
+					NestedCompositeKeyTests.Something.class,
+					TableGenerationTests.Things.class,
+					TableGenerationTests.MoreThings.class
+			) )
+	);
+
+	@Test
+	void testFootprint() {
+		final MetamodelFootprint footprint = new MetamodelFootprint( Benchmarks.intValue( "liberty.footprint.copies", 5 ) );
+		final int maxHeapKb = Benchmarks.intValue( "liberty.footprint.max_heap_kb", Integer.MAX_VALUE );
+
+		// load Hibernate's own classes first, so that class and metaspace growth is due to the model
+		footprint.measure( "warm-up", MODELS.getFirst().annotatedClasses() );
+
+		try ( var report = new BenchmarkReport(
+				"metamodel-footprint",
+				"orm_version", "model", "entity_persisters", "collection_persisters", "sqm_functions", "named_objects",
+				"heap_kb", "metaspace_kb", "loaded_classes", "hql_interpretations", "interpretation_cache_kb"
+		) ) {
+			for ( Model model : MODELS ) {
+				final MetamodelFootprint.Measurement measurement = footprint.measure( model.name(), model.annotatedClasses() );
+				report.row(
+						Version.getVersionString(),
+						model.name(),
+						measurement.entityPersisters(),
+						measurement.collectionPersisters(),
+						measurement.sqmFunctions(),
+						measurement.namedObjects(),
+						measurement.heapBytes() / 1024,
+						measurement.metaspaceBytes() / 1024,
+						measurement.loadedClasses(),
+						measurement.cachedHqlInterpretations(),
+						measurement.interpretationCacheHeapBytes() / 1024
+				);
+				assertThat( measurement.heapBytes() / 1024 ).as( model.name() ).isLessThanOrEqualTo( maxHeapKb );
+			}
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package org.hibernate.test.liberty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/// Writes a [StatisticsSnapshot] as JSON and in the Prometheus text exposition
+/// format, to `build/metrics/{scenario}.json` and `build/metrics/{scenario}.prom`.
+///
+/// Counters become `hibernate_{name}_total` and histograms
+/// `hibernate_{name}_duration_seconds` with buckets at powers of two nanoseconds
+/// (from ~1µs to ~69s), each labelled with the scenario - so files from a test run
+/// can be loaded by the Prometheus node exporter's textfile collector, say, next to
+/// the metrics of production.
+public final class MetricsExporter {
+	/// Whether benchmarks should export the statistics of their scenarios
+	public static final String EXPORT = "liberty.statistics.export";
+
+	public static final Path OUTPUT_DIR = Path.of( "build", "metrics" );
+
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9, 100 };
+	private static final int MIN_BUCKET_EXPONENT = 10;
+	private static final int MAX_BUCKET_EXPONENT = 36;
+
+	private MetricsExporter() {
+	}
+
+	public static void export(String scenario, StatisticsSnapshot snapshot) {
+		write( OUTPUT_DIR.resolve( scenario + ".json" ), toJson( scenario, snapshot ) );
+		write( OUTPUT_DIR.resolve( scenario + ".prom" ), toPrometheus( scenario, snapshot ) );
+	}
+
+	public static String toJson(String scenario, StatisticsSnapshot snapshot) {
+		final StringJoiner counters = new StringJoiner( ",\n", "{\n", "\n\t}" );
+		snapshot.counters().forEach( (name, value) -> counters.add( "\t\t\"" + name + "\": " + value ) );
+
+		final StringJoiner histograms = new StringJoiner( ",\n", "{\n", "\n\t}" );
+		snapshot.histograms().forEach( (name, histogram) -> {
+			final StringJoiner fields = new StringJoiner( ", ", "{ ", " }" );
+			fields.add( "\"count\": " + histogram.count() );
+			fields.add( "\"mean_micros\": " + format( histogram.meanNanos() / 1000 ) );
+			for ( double percentile : PERCENTILES ) {
+				fields.add( "\"" + percentileName( percentile ) + "_micros\": " + format( histogram.percentileNanos( percentile ) / 1000d ) );
+			}
+			histograms.add( "\t\t\"" + name + "\": " + fields );
+		} );
+
+		return "{\n"
+				+ "\t\"scenario\": \"" + scenario.replace( "\\", "\\\\" ).replace( "\"", "\\\"" ) + "\",\n"
+				+ "\t\"counters\": " + counters + ",\n"
+				+ "\t\"histograms\": " + histograms + "\n"
+				+ "}\n";
+	}
+
+	public static String toPrometheus(String scenario, StatisticsSnapshot snapshot) {
+		final String label = "scenario=\"" + scenario.replace( "\\", "\\\\" ).replace( "\"", "\\\"" ) + "\"";
+		final StringBuilder text = new StringBuilder();
+
+		snapshot.counters().forEach( (name, value) -> {
+			final String metric = "hibernate_" + name + "_total";
+			text.append( "# TYPE " ).append( metric ).append( " counter\n" );
+			text.append( metric ).append( '{' ).append( label ).append( "} " ).append( value ).append( '\n' );
+		} );
+
+		for ( Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshot.histograms().entrySet() ) {
+			final String metric = "hibernate_" + entry.getKey() + "_duration_seconds";
+			final LatencyHistogram.Snapshot histogram = entry.getValue();
+			text.append( "# TYPE " ).append( metric ).append( " histogram\n" );
+			for ( int exponent = MIN_BUCKET_EXPONENT; exponent <= MAX_BUCKET_EXPONENT; exponent++ ) {
+				final long bound = 1L << exponent;
+				text.append( metric ).append( "_bucket{" ).append( label )
+						.append( ",le=\"" ).append( format( bound / 1_000_000_000d ) ).append( "\"} " )
+						.append( histogram.countAtOrBelow( bound - 1 ) ).append( '\n' );
+			}
+			text.append( metric ).append( "_bucket{" ).append( label ).append( ",le=\"+Inf\"} " ).append( histogram.count() ).append( '\n' );
+			text.append( metric ).append( "_sum{" ).append( label ).append( "} " ).append( format( histogram.sumNanos() / 1_000_000_000d ) ).append( '\n' );
+			text.append( metric ).append( "_count{" ).append( label ).append( "} " ).append( histogram.count() ).append( '\n' );
+		}
+		return text.toString();
+	}
+
+	private static String percentileName(double percentile) {
+		return percentile == 100 ? "max" : "p" + format( percentile ).replace( ".", "" );
+	}
+
+	private static String format(double value) {
+		final String text = String.format( Locale.ROOT, "%.9f", value );
+		final String trimmed = text.replaceAll( "0+$", "" );
+		return trimmed.endsWith( "." ) ? trimmed.substring( 0, trimmed.length() - 1 ) : trimmed;
+	}
+
+	private static void write(Path file, String content) {
+		try {
+			Files.createDirectories( file.getParent() );
+			Files.writeString( file, content );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Unable to write metrics to " + file, e );
+		}
+	}
+}
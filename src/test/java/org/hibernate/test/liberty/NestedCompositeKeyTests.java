@@ -8,6 +8,7 @@ import org.hibernate.testing.orm.junit.DomainModel;
 import org.hibernate.testing.orm.junit.DomainModelScope;
 import org.hibernate.testing.orm.junit.SessionFactory;
 import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import jakarta.persistence.Embeddable;
@@ -18,6 +19,9 @@ import jakarta.persistence.Table;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
+ * {@link #testFindSql} compares the SQL of a find by the nested key against its
+ * {@link SqlSnapshots} golden file.
+ *
  * @author Steve Ebersole
  */
 @DomainModel(annotatedClasses = {
@@ -26,7 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 		NestedCompositeKeyTests.Level1.class,
 		NestedCompositeKeyTests.Something.class,
 })
-@SessionFactory
+@SessionFactory(useCollectingStatementInspector = true)
 public class NestedCompositeKeyTests {
 	/// The assertion is very unclear.
 	/// But here, we see Hibernate clearly supports nested embeddables for composite id.
@@ -66,22 +70,68 @@ public class NestedCompositeKeyTests {
 		assertThat( level3Detail2.getPropertyAccessorName() ).isEqualTo( "field" );
 	}
 
+	@Test
+	void testFindSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.persist( new Something( DataGenerator.somethingKey( 1 ), "Something 1" ) );
+		} );
+		factoryScope.getCollectingStatementInspector().clear();
+
+		factoryScope.inTransaction( (session) -> {
+			assertThat( session.find( Something.class, DataGenerator.somethingKey( 1 ) ) ).isNotNull();
+		} );
+		SqlSnapshots.verify(
+				"NestedCompositeKeyTests/find",
+				"defaults",
+				factoryScope.getCollectingStatementInspector().getSqlQueries()
+		);
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
 	@Embeddable
 	public static class Level1 {
 		private String level1Detail;
 		private Level2 level2;
+
+		public Level1() {
+		}
+
+		public Level1(String level1Detail, Level2 level2) {
+			this.level1Detail = level1Detail;
+			this.level2 = level2;
+		}
 	}
 
 	@Embeddable
 	public static class Level2 {
 		private String level2Detail;
 		private Level3 level3;
+
+		public Level2() {
+		}
+
+		public Level2(String level2Detail, Level3 level3) {
+			this.level2Detail = level2Detail;
+			this.level3 = level3;
+		}
 	}
 
 	@Embeddable
 	public static class Level3 {
 		private String level3Detail1;
 		private String level3Detail2;
+
+		public Level3() {
+		}
+
+		public Level3(String level3Detail1, String level3Detail2) {
+			this.level3Detail1 = level3Detail1;
+			this.level3Detail2 = level3Detail2;
+		}
 	}
 
 	@Entity(name="Something")
@@ -90,5 +140,13 @@ public class NestedCompositeKeyTests {
 		@EmbeddedId
 		private Level1 id;
 		private String name;
+
+		public Something() {
+		}
+
+		public Something(Level1 id, String name) {
+			this.id = id;
+			this.name = name;
+		}
 	}
 }
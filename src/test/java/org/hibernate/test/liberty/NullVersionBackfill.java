@@ -0,0 +1,182 @@
+package org.hibernate.test.liberty;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityVersionMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+/// Replaces `null` versions, as left behind by EclipseLink, with the version
+/// seed value (`0` for numeric versions) so that the rows can be updated by
+/// Hibernate (see NullVersionTests, id 4).
+///
+/// Every versioned entity hierarchy in the metamodel is processed in keyset
+/// paginated batches, each in its own short transaction, pausing between
+/// batches if requested.  Each update names the ids of its batch, so it locks
+/// at most `batchSize` rows however sparse the `null` versions are; on SQL Server,
+/// keeping the batch size well below the lock escalation threshold (~5000 locks)
+/// avoids table locks.  As the ids are bound as parameters, the batch size is
+/// limited to [#MAX_BATCH_SIZE] (SQL Server accepts up to 2100 parameters).
+///
+/// Only single-column identifiers are supported; other hierarchies are reported
+/// as [skipped][Result#skipped()].
+public class NullVersionBackfill {
+	public static final int MAX_BATCH_SIZE = 2000;
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final int batchSize;
+	private final Duration pause;
+
+	public NullVersionBackfill(SessionFactoryImplementor sessionFactory, int batchSize, Duration pause) {
+		if ( batchSize < 1 || batchSize > MAX_BATCH_SIZE ) {
+			throw new IllegalArgumentException( "Batch size must be between 1 and " + MAX_BATCH_SIZE + ": " + batchSize );
+		}
+		this.sessionFactory = sessionFactory;
+		this.batchSize = batchSize;
+		this.pause = pause;
+	}
+
+	/// The outcome of back-filling one entity hierarchy
+	///
+	/// @param lockWait Time spent waiting on locks, as reported by SQL Server;
+	/// always zero for other databases
+	public record Result(String entityName, long rows, int batches, Duration elapsed, Duration lockWait, boolean skipped) {
+		public double rowsPerSecond() {
+			return elapsed.isZero() ? 0 : rows / ( elapsed.toNanos() / 1_000_000_000d );
+		}
+	}
+
+	public List<Result> backfill() {
+		final List<Result> results = new ArrayList<>();
+		sessionFactory.getMappingMetamodel().forEachEntityDescriptor( (descriptor) -> {
+			if ( descriptor.isVersioned() && descriptor.getEntityName().equals( descriptor.getRootEntityName() ) ) {
+				results.add( backfill( descriptor ) );
+			}
+		} );
+		return results;
+	}
+
+	public Result backfill(EntityPersister descriptor) {
+		if ( !( descriptor.getIdentifierMapping() instanceof BasicEntityIdentifierMapping ) ) {
+			return new Result( descriptor.getEntityName(), 0, 0, Duration.ZERO, Duration.ZERO, true );
+		}
+
+		final EntityVersionMapping versionMapping = descriptor.getVersionMapping();
+		final String entityName = descriptor.getEntityName();
+		final String idName = descriptor.getIdentifierPropertyName();
+		final String versionName = versionMapping.getVersionAttribute().getAttributeName();
+
+		final String firstBatch = "select e." + idName + " from " + entityName + " e"
+				+ " where e." + versionName + " is null"
+				+ " order by e." + idName;
+		final String nextBatch = "select e." + idName + " from " + entityName + " e"
+				+ " where e." + versionName + " is null and e." + idName + " > :last"
+				+ " order by e." + idName;
+		final String update = "update " + entityName + " e"
+				+ " set e." + versionName + " = :seed"
+				+ " where e." + versionName + " is null and e." + idName + " in (:ids)";
+
+		final long start = System.nanoTime();
+		long rows = 0;
+		long lockWait = 0;
+		int batches = 0;
+		Object last = null;
+		while ( true ) {
+			final Object previous = last;
+			final Batch batch = sessionFactory.fromStatelessTransaction( (session) -> {
+				final List<?> ids = ( previous == null
+						? session.createSelectionQuery( firstBatch, Object.class )
+						: session.createSelectionQuery( nextBatch, Object.class ).setParameter( "last", previous ) )
+						.setMaxResults( batchSize )
+						.list();
+				if ( ids.isEmpty() ) {
+					return null;
+				}
+
+				final long waitBefore = lockWaitMillis( session );
+				final int count = session.createMutationQuery( update )
+						.setParameter( "seed", seed( versionMapping, (SharedSessionContractImplementor) session ) )
+						.setParameterList( "ids", ids )
+						.executeUpdate();
+				return new Batch( ids.getLast(), count, lockWaitMillis( session ) - waitBefore );
+			} );
+
+			if ( batch == null ) {
+				break;
+			}
+
+			batches++;
+			rows += batch.rows();
+			lockWait += batch.lockWaitMillis();
+			last = batch.last();
+			pause();
+		}
+
+		return new Result(
+				entityName,
+				rows,
+				batches,
+				Duration.ofNanos( System.nanoTime() - start ),
+				Duration.ofMillis( lockWait ),
+				false
+		);
+	}
+
+	/// The initial version value, as Hibernate assigns it to new entities
+	private static Object seed(EntityVersionMapping versionMapping, SharedSessionContractImplementor session) {
+		return versionMapping.getJavaType().seed(
+				versionMapping.getLength(),
+				versionMapping.getTemporalPrecision() != null
+						? versionMapping.getTemporalPrecision()
+						: versionMapping.getPrecision(),
+				versionMapping.getScale(),
+				session
+		);
+	}
+
+	private record Batch(Object last, int rows, long lockWaitMillis) {
+	}
+
+	/// Cumulative lock wait time of the session's connection
+	private long lockWaitMillis(StatelessSession session) {
+		if ( !( sessionFactory.getJdbcServices().getDialect() instanceof SQLServerDialect ) ) {
+			return 0;
+		}
+		return session.doReturningWork( (connection) -> {
+			try ( Statement statement = connection.createStatement();
+					ResultSet resultSet = statement.executeQuery(
+							"select coalesce(sum(wait_time_ms), 0) from sys.dm_exec_session_wait_stats"
+									+ " where session_id = @@SPID and wait_type like 'LCK%'"
+					) ) {
+				resultSet.next();
+				return resultSet.getLong( 1 );
+			}
+			catch (SQLException e) {
+				// e.g. missing VIEW SERVER STATE permission
+				return 0L;
+			}
+		} );
+	}
+
+	private void pause() {
+		if ( pause.isZero() ) {
+			return;
+		}
+		try {
+			Thread.sleep( pause );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( "Interrupted while back-filling versions", e );
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package org.hibernate.test.liberty;
 
+import java.time.Duration;
 import java.util.Date;
+import java.util.List;
 
 import org.hibernate.testing.orm.junit.DomainModel;
 import org.hibernate.testing.orm.junit.SessionFactory;
@@ -77,6 +79,45 @@ public class NullVersionTests {
 		} );
 	}
 
+	@Test
+	@AnalysisItem( id = 4, feature = "@Version field null", description = "@Version field null ",
+			behavioralDifference = "EclipseLink allows null version; Hibernate expects initialized version")
+	void testBackfillingNullVersions(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new TheEntity( i, "name " + i, null ) );
+			}
+		} );
+
+		// mimic legacy data - null versions for all but the first row
+		factoryScope.inTransaction( (session) -> session.doWork( (connection) -> {
+			try (var statement = connection.createStatement() ) {
+				statement.executeUpdate( "update the_entity set version = null where id > 1" );
+			}
+		} ) );
+
+		final List<NullVersionBackfill.Result> results = new NullVersionBackfill(
+				factoryScope.getSessionFactory(),
+				3,
+				Duration.ZERO
+		).backfill();
+		assertThat( results ).hasSize( 1 );
+		assertThat( results.getFirst().rows() ).isEqualTo( 4 );
+		assertThat( results.getFirst().batches() ).isEqualTo( 2 );
+
+		// the null versions should have been replaced with the seed value (zero), making the rows updatable
+		factoryScope.inTransaction( (session) -> {
+			var entity = session.find( TheEntity.class, 3 );
+			assertThat( entity.version ).isEqualTo( 0 );
+			entity.name = "updated";
+		} );
+
+		factoryScope.inTransaction( (session) -> {
+			var entity = session.find( TheEntity.class, 3 );
+			assertThat( entity.version ).isEqualTo( 1 );
+		} );
+	}
+
 	@Entity(name="TheEntity")
 	@Table(name="the_entity")
 	public static class TheEntity {
@@ -0,0 +1,23 @@
+package org.hibernate.test.liberty;
+
+import org.hibernate.StaleStateException;
+
+import jakarta.persistence.OptimisticLockException;
+
+/// Support for the tests of concurrent changes to [Versioned] entities
+public final class OptimisticLocking {
+	private OptimisticLocking() {
+	}
+
+	/// Depending on where it is detected, the failure surfaces as a JPA
+	/// [OptimisticLockException], a Hibernate [StaleStateException] or one of those
+	/// wrapped in a `RollbackException`
+	public static boolean isOptimisticLockFailure(Throwable e) {
+		for ( Throwable cause = e; cause != null; cause = cause.getCause() ) {
+			if ( cause instanceof OptimisticLockException || cause instanceof StaleStateException ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,148 @@
+package org.hibernate.test.liberty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/// Many concurrent writers updating a small set of `@Version` rows, as opposed to
+/// the single-threaded view of NullVersionTests (id 4).
+///
+/// Each operation reads a row and increments its counter, retrying on an optimistic
+/// lock failure.  Keys are chosen with a configurable skew towards the lowest ids,
+/// so a few keys are "hot".  Throughput, the optimistic lock failure rate and the
+/// latency of an operation including its retries are written to
+/// `build/benchmarks/optimistic-locking.csv`, for both Integer and timestamp versions.
+///
+/// Settings:
+/// * `liberty.contention.threads` - number of concurrent writers (16)
+/// * `liberty.contention.operations` - operations per writer (200)
+/// * `liberty.contention.keys` - number of rows (100)
+/// * `liberty.contention.skew` - `1` is uniform, larger values concentrate on fewer keys (3)
+/// * `liberty.contention.virtual_threads` - use a virtual thread per writer (false)
+@Tag(Benchmarks.TAG)
+@DomainModel(annotatedClasses = {
+		IntegerVersioned.class,
+		TimestampVersioned.class
+})
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.SHOW_SQL, value = "false"))
+@SessionFactory
+public class OptimisticLockingStressTests {
+	private static final int MAX_ATTEMPTS = 20;
+
+	private final int threads = Benchmarks.intValue( "liberty.contention.threads", 16 );
+	private final int operations = Benchmarks.intValue( "liberty.contention.operations", 200 );
+	private final int keys = Benchmarks.intValue( "liberty.contention.keys", 100 );
+	private final double skew = Benchmarks.doubleValue( "liberty.contention.skew", 3 );
+	private final boolean virtualThreads = Benchmarks.booleanValue( "liberty.contention.virtual_threads", false );
+
+	@Test
+	void testContention(SessionFactoryScope factoryScope) throws Exception {
+		factoryScope.inTransaction( (session) -> {
+			for ( int i = 1; i <= keys; i++ ) {
+				session.persist( new IntegerVersioned( i ) );
+				session.persist( new TimestampVersioned( i ) );
+			}
+		} );
+
+		try ( var report = new BenchmarkReport(
+				"optimistic-locking",
+				"version", "threads", "virtual", "keys", "skew",
+				"operations", "abandoned", "failures", "failure_rate", "ops_per_sec",
+				"p50_millis", "p99_millis", "max_millis"
+		) ) {
+			for ( Class<? extends Versioned> type : List.of( IntegerVersioned.class, TimestampVersioned.class ) ) {
+				final List<Outcome> outcomes = run( factoryScope.getSessionFactory(), type );
+
+				final long start = outcomes.stream().mapToLong( Outcome::start ).min().orElse( 0 );
+				final long end = outcomes.stream().mapToLong( Outcome::end ).max().orElse( 0 );
+				final long succeeded = outcomes.stream().filter( Outcome::succeeded ).count();
+				final long failures = outcomes.stream().mapToLong( Outcome::failures ).sum();
+				final long attempts = outcomes.stream().mapToLong( (outcome) -> outcome.succeeded() ? outcome.failures() + 1 : outcome.failures() ).sum();
+				final long[] latencies = outcomes.stream()
+						.filter( Outcome::succeeded )
+						.mapToLong( (outcome) -> outcome.end() - outcome.start() )
+						.sorted()
+						.toArray();
+
+				report.row(
+						type.getSimpleName(), threads, virtualThreads, keys, skew,
+						outcomes.size(), outcomes.size() - succeeded, failures,
+						(double) failures / attempts,
+						succeeded / ( ( end - start ) / 1_000_000_000d ),
+						Benchmarks.millis( Benchmarks.percentile( latencies, 50 ) ),
+						Benchmarks.millis( Benchmarks.percentile( latencies, 99 ) ),
+						Benchmarks.millis( Benchmarks.percentile( latencies, 100 ) )
+				);
+			}
+		}
+	}
+
+	private List<Outcome> run(SessionFactoryImplementor sessionFactory, Class<? extends Versioned> type) throws Exception {
+		final List<Future<List<Outcome>>> futures = new ArrayList<>();
+		try ( ExecutorService executor = virtualThreads
+				? Executors.newVirtualThreadPerTaskExecutor()
+				: Executors.newFixedThreadPool( threads ) ) {
+			for ( int t = 0; t < threads; t++ ) {
+				futures.add( executor.submit( () -> {
+					final List<Outcome> outcomes = new ArrayList<>( operations );
+					for ( int i = 0; i < operations; i++ ) {
+						outcomes.add( update( sessionFactory, type, nextKey() ) );
+					}
+					return outcomes;
+				} ) );
+			}
+		}
+
+		final List<Outcome> outcomes = new ArrayList<>();
+		for ( Future<List<Outcome>> future : futures ) {
+			outcomes.addAll( future.get() );
+		}
+		return outcomes;
+	}
+
+	private Outcome update(SessionFactoryImplementor sessionFactory, Class<? extends Versioned> type, int key) {
+		final long start = System.nanoTime();
+		int failures = 0;
+		while ( failures < MAX_ATTEMPTS ) {
+			try {
+				sessionFactory.inTransaction( (session) -> session.find( type, key ).increment() );
+				return new Outcome( start, System.nanoTime(), failures, true );
+			}
+			catch (RuntimeException e) {
+				if ( !OptimisticLocking.isOptimisticLockFailure( e ) ) {
+					throw e;
+				}
+				failures++;
+			}
+		}
+		return new Outcome( start, System.nanoTime(), failures, false );
+	}
+
+	/// Hot keys are the low ids; `skew` of 1 gives a uniform distribution
+	private int nextKey() {
+		return 1 + (int) ( keys * Math.pow( ThreadLocalRandom.current().nextDouble(), skew ) );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	private record Outcome(long start, long end, int failures, boolean succeeded) {
+	}
+}
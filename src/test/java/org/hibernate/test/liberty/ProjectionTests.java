@@ -0,0 +1,121 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.JpaComplianceSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Scalar queries of QueryFunctionTests and QueryGroupByTests projected into records
+/// via [Projections], and a comparison of the cost per row of the projection modes.
+@DomainModel(annotatedClasses = { Book.class, QueryGroupByTests.Person.class, QueryGroupByTests.Name.class })
+@ServiceRegistry(settings = {
+		@Setting(name = JdbcSettings.SHOW_SQL, value = "false"),
+		@Setting(name = JpaComplianceSettings.JPA_QUERY_COMPLIANCE, value = "false")
+})
+@SessionFactory
+public class ProjectionTests {
+	public record IdValue(int id, int value) {
+	}
+
+	public record IdTitle(int id, String title) {
+	}
+
+	public record LastNameCount(String lastName, long count) {
+	}
+
+	private record Mode(String name, Function<StatelessSession, List<?>> query) {
+	}
+
+	private static final String ID_TITLE = "select b.id, b.title from Book b";
+
+	@Test
+	void testFunctionProjection(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.persist( new Book( 1, "Pet Cemetery", "Stephen King", "123-45-6789" ) );
+			session.doWork( Scenarios::createDatabaseObjects );
+		} );
+		try {
+			factoryScope.inTransaction( (session) -> {
+				final List<IdValue> results = Projections.project(
+						session,
+						"select id, function( 'dbo.multiplied_number' as integer, 2 ) from Book",
+						IdValue.class
+				).list();
+				assertThat( results ).containsExactly( new IdValue( 1, 4 ) );
+			} );
+		}
+		finally {
+			factoryScope.inTransaction( (session) -> session.doWork( Scenarios::dropDatabaseObjects ) );
+		}
+	}
+
+	@Test
+	void testGroupByProjection(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).persons( 250 );
+
+		factoryScope.inTransaction( (session) -> {
+			final List<LastNameCount> results = Projections.project(
+					session,
+					"select p.name.lastName, count(*) from Person p group by p.name.lastName order by p.name.lastName",
+					LastNameCount.class
+			).list();
+			assertThat( results ).containsExactly(
+					new LastNameCount( "Last0", 99 ),
+					new LastNameCount( "Last1", 100 ),
+					new LastNameCount( "Last2", 51 )
+			);
+		} );
+	}
+
+	@Test
+	@Tag(Benchmarks.TAG)
+	void testProjectionCost(SessionFactoryScope factoryScope) {
+		final int rows = Benchmarks.intValue( "liberty.projection.rows", 100_000 );
+		new DataGenerator( factoryScope.getSessionFactory() ).books( rows );
+
+		final List<Mode> modes = List.of(
+				new Mode( "tuple", (session) -> session.createQuery( ID_TITLE, Tuple.class ).list() ),
+				new Mode( "object-array", (session) -> session.createQuery( ID_TITLE, Object[].class ).list() ),
+				new Mode( "record-class", (session) -> session.createQuery( ID_TITLE, IdTitle.class ).list() ),
+				new Mode( "tuple-transformer", (session) -> session.createQuery( ID_TITLE, Object[].class )
+						.setTupleTransformer( (row, aliases) -> new IdTitle( (Integer) row[0], (String) row[1] ) )
+						.list() ),
+				new Mode( "record-constructor", (session) -> Projections.project( session, ID_TITLE, IdTitle.class ).list() )
+		);
+
+		try ( var report = new BenchmarkReport( "projection", "mode", "rows", "bytes_per_row", "rows_per_sec" ) ) {
+			for ( Mode mode : modes ) {
+				final Benchmarks.Measurement median = Benchmarks.measure( () -> {
+					final List<?> results = factoryScope.getSessionFactory().fromStatelessTransaction( mode.query() );
+					assertThat( results ).hasSize( rows );
+				} );
+				report.row(
+						mode.name(),
+						rows,
+						median.bytes() / rows,
+						rows / ( median.nanos() / 1_000_000_000d )
+				);
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,70 @@
+package org.hibernate.test.liberty;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+
+import org.hibernate.InstantiationException;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.query.Query;
+
+/// Projection of scalar query results straight into records, e.g.
+///
+/// ```java
+/// record IdValue(int id, int value) {}
+///
+/// Projections.project( session, "select id, function( 'dbo.multiplied_number' as integer, 2 ) from Book", IdValue.class )
+/// ```
+///
+/// The canonical constructor of each record class is resolved once, as a method
+/// handle taking the row, and cached for all queries.  Compared with `Tuple`, no
+/// tuple (with its alias lookup) is created per row.  Compared with passing the
+/// record class as result type, the constructor is not located per query and not
+/// called reflectively per row.  Values are still boxed when read from JDBC.
+public final class Projections {
+	private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected MethodHandle computeValue(Class<?> resultClass) {
+			return constructor( resultClass );
+		}
+	};
+
+	private Projections() {
+	}
+
+	public static <R extends Record> Query<R> project(SharedSessionContract session, String hql, Class<R> resultClass) {
+		final MethodHandle constructor = CONSTRUCTORS.get( resultClass );
+		return session.createQuery( hql, Object[].class ).setTupleTransformer( (row, aliases) -> {
+			try {
+				return resultClass.cast( (Object) constructor.invokeExact( row ) );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new InstantiationException( "Could not project row", resultClass, t );
+			}
+		} );
+	}
+
+	/// The canonical constructor, taking the row as `Object[]`
+	private static MethodHandle constructor(Class<?> resultClass) {
+		final Class<?>[] parameterTypes = Arrays.stream( resultClass.getRecordComponents() )
+				.map( RecordComponent::getType )
+				.toArray( Class<?>[]::new );
+		try {
+			final Constructor<?> constructor = resultClass.getDeclaredConstructor( parameterTypes );
+			constructor.setAccessible( true );
+			return MethodHandles.lookup()
+					.unreflectConstructor( constructor )
+					.asSpreader( Object[].class, parameterTypes.length )
+					.asType( MethodType.methodType( Object.class, Object[].class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new InstantiationException( "Could not resolve the canonical constructor", resultClass, e );
+		}
+	}
+}
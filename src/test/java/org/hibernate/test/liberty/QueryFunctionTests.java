@@ -40,6 +40,9 @@ import static org.assertj.core.api.Assertions.fail;
 /// Still waiting on confirmation of that.
 /// Assuming that is the case, the workaround is to simply disable query compliance.
 ///
+/// The `*Sql` tests compare the SQL rendered for the compliant forms against their
+/// [SqlSnapshots] golden files.
+///
 /// @author Steve Ebersole
 @AnalysisItem( id = 24, feature = "JPQL FUNCTION(...)", description = "Dialect-specific function support",
 		behavioralDifference = "EclipseLink accepts DB functions directly; Hibernate needs explicit registration")
@@ -49,7 +52,7 @@ import static org.assertj.core.api.Assertions.fail;
 @ParameterizedClass
 @MethodSource("complianceValues")
 @DomainModel(annotatedClasses = Book.class)
-@SessionFactory
+@SessionFactory(useCollectingStatementInspector = true)
 public class QueryFunctionTests implements ServiceRegistryProducer {
 	public static List<Boolean> complianceValues() {
 		return List.of( FALSE, TRUE );
@@ -316,6 +319,39 @@ public class QueryFunctionTests implements ServiceRegistryProducer {
 		} );
 	}
 
+	@Test
+	void testCompliantSelectionSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createQuery( "select id, function( 'dbo.multiplied_number' as integer, 2 ) from Book", Tuple.class ).list();
+		} );
+		verifySql( factoryScope, "compliantSelection" );
+	}
+
+	@Test
+	void testCompliantOrderBySql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createQuery( "select b from Book b order by function( 'dbo.constant_number' as int)" ).list();
+			session.createQuery( "select b from Book b order by function( 'dbo.multiplied_number' as int, 2)" ).list();
+		} );
+		verifySql( factoryScope, "compliantOrderBy" );
+	}
+
+	@Test
+	void testCompliantComparisonSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createQuery( "select b from Book b where b.id = function( 'dbo.multiplied_number' as int, 2)" ).list();
+		} );
+		verifySql( factoryScope, "compliantComparison" );
+	}
+
+	private void verifySql(SessionFactoryScope factoryScope, String scenario) {
+		SqlSnapshots.verify(
+				"QueryFunctionTests/compliance-" + complianceEnabled + "/" + scenario,
+				JpaComplianceSettings.JPA_QUERY_COMPLIANCE + "=" + complianceEnabled,
+				factoryScope.getCollectingStatementInspector().getSqlQueries()
+		);
+	}
+
 	@BeforeEach
 	void setUp(SessionFactoryScope factoryScope) {
 		factoryScope.inTransaction( (session) -> {
@@ -348,6 +384,7 @@ public class QueryFunctionTests implements ServiceRegistryProducer {
 				}
 			} );
 		} );
+		factoryScope.getCollectingStatementInspector().clear();
 	}
 
 	@AfterEach
@@ -13,6 +13,7 @@ import org.hibernate.testing.orm.junit.DomainModel;
 import org.hibernate.testing.orm.junit.ServiceRegistryProducer;
 import org.hibernate.testing.orm.junit.SessionFactory;
 import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedClass;
@@ -28,13 +29,16 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 
 /**
+ * The {@code *Sql} tests compare the SQL rendered for these queries against their
+ * {@link SqlSnapshots} golden files.
+ *
  * @author Steve Ebersole
  */
 @TestInstance( TestInstance.Lifecycle.PER_METHOD )
 @ParameterizedClass
 @MethodSource("complianceValues")
 @DomainModel(annotatedClasses = {QueryGroupByTests.Person.class, QueryGroupByTests.Name.class})
-@SessionFactory
+@SessionFactory(useCollectingStatementInspector = true)
 public class QueryGroupByTests implements ServiceRegistryProducer {
 	public static List<Boolean> complianceValues() {
 		return List.of( FALSE, TRUE );
@@ -58,6 +62,11 @@ public class QueryGroupByTests implements ServiceRegistryProducer {
 		// nothing to do
 	}
 
+	@BeforeEach
+	void clearStatements(SessionFactoryScope factoryScope) {
+		factoryScope.getCollectingStatementInspector().clear();
+	}
+
 	@Test
 	@AnalysisItem( id=17, feature = "JPQL GROUP BY (multiple fields)", description = "Grouping on fields not in SELECT",
 			behavioralDifference = "EclipseLink allows grouping on non-selected fields; Hibernate enforces strict compliance")
@@ -93,6 +102,41 @@ public class QueryGroupByTests implements ServiceRegistryProducer {
 		} );
 	}
 
+	@Test
+	void testGroupByEmbeddedSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createQuery( "select count(p.id) from Person p group by p.name" ).list();
+			session.createQuery( "select count(p.id) from Person p group by p.name.firstName, p.name.lastName" ).list();
+		} );
+		verifySql( factoryScope, "groupByEmbedded" );
+	}
+
+	@Test
+	void testGroupByNonSelectedSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createQuery( "select count(*) from Person p group by p.dob, p.name.lastName" ).list();
+		} );
+		verifySql( factoryScope, "groupByNonSelected" );
+	}
+
+	@Test
+	void testHavingNoAggregationSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createQuery( "select p.dob, p.name.lastName, count(*) from Person p group by p.dob, p.name.lastName having p.dob > :dob" )
+					.setParameter( "dob", Instant.now() )
+					.list();
+		} );
+		verifySql( factoryScope, "havingNoAggregation" );
+	}
+
+	private void verifySql(SessionFactoryScope factoryScope, String scenario) {
+		SqlSnapshots.verify(
+				"QueryGroupByTests/compliance-" + complianceEnabled + "/" + scenario,
+				JpaComplianceSettings.JPA_QUERY_COMPLIANCE + "=" + complianceEnabled,
+				factoryScope.getCollectingStatementInspector().getSqlQueries()
+		);
+	}
+
 	@Entity(name="Person")
 	@Table(name="persons")
 	public static class Person {
@@ -0,0 +1,124 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.internal.StatisticsInitiator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Query plan cache metrics, see [QueryPlanStatistics]
+@DomainModel(annotatedClasses = Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = StatisticsInitiator.STATS_BUILDER, value = "org.hibernate.test.liberty.QueryPlanStatistics$Factory")
+})
+@SessionFactory
+public class QueryPlanCacheTests {
+	private static final String BY_ID = "select b from Book b where b.id = :id";
+	private static final String ORDERED = "select b from Book b order by function( 'dbo.multiplied_number' as int, 2)";
+
+	@Test
+	void testPerQueryMetrics(SessionFactoryScope factoryScope) {
+		final QueryPlanStatistics statistics = (QueryPlanStatistics) factoryScope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		factoryScope.inSession( (session) -> {
+			session.createSelectionQuery( BY_ID, Book.class );
+			session.createSelectionQuery( BY_ID, Book.class );
+			session.createSelectionQuery( BY_ID, Book.class );
+			session.createSelectionQuery( ORDERED, Book.class );
+		} );
+
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+
+		final QueryPlanStatistics.QueryPlanEntry byId = statistics.getQueryPlanEntry( BY_ID );
+		assertThat( byId.getHits() ).isEqualTo( 2 );
+		assertThat( byId.getCompilations() ).isEqualTo( 1 );
+		assertThat( byId.getRecompilations() ).isZero();
+		assertThat( byId.getTotalCompileMicros() ).isPositive();
+
+		final QueryPlanStatistics.QueryPlanEntry ordered = statistics.getQueryPlanEntry( ORDERED );
+		assertThat( ordered.getHits() ).isZero();
+		assertThat( ordered.getCompilations() ).isEqualTo( 1 );
+	}
+
+	/// Runs a workload of N distinct query shapes, accessed round-robin, against
+	/// increasing cache sizes.  Once the cache is smaller than the number of shapes,
+	/// every access evicts and recompiles.
+	@Test
+	@Tag(Benchmarks.TAG)
+	void testCacheSizing() {
+		final int shapes = Benchmarks.intValue( "liberty.plan_cache.shapes", 500 );
+		final int rounds = Benchmarks.intValue( "liberty.plan_cache.rounds", 10 );
+		final List<Integer> cacheSizes = Benchmarks.intList( "liberty.plan_cache.sizes", "64,256,1024,2048" );
+
+		try ( var report = new BenchmarkReport(
+				"query-plan-cache",
+				"cache_size", "shapes", "hits", "misses", "recompilations", "hit_ratio", "compile_millis", "workload_millis"
+		) ) {
+			for ( int cacheSize : cacheSizes ) {
+				try ( SessionFactory sessionFactory = buildSessionFactory( cacheSize ) ) {
+					final QueryPlanStatistics statistics = (QueryPlanStatistics) sessionFactory.getStatistics();
+					final long time = Benchmarks.time( () -> {
+						try ( Session session = sessionFactory.openSession() ) {
+							for ( int round = 0; round < rounds; round++ ) {
+								for ( int shape = 0; shape < shapes; shape++ ) {
+									session.createSelectionQuery( "select b from Book b where b.id = " + shape, Book.class );
+								}
+							}
+						}
+					} );
+
+					final long hits = statistics.getQueryPlanCacheHitCount();
+					final long misses = statistics.getQueryPlanCacheMissCount();
+					final long compileMicros = statistics.getQueryPlanEntries().values().stream()
+							.mapToLong( QueryPlanStatistics.QueryPlanEntry::getTotalCompileMicros )
+							.sum();
+					report.row(
+							cacheSize, shapes, hits, misses,
+							statistics.getQueryPlanCacheRecompilationCount(),
+							(double) hits / ( hits + misses ),
+							compileMicros / 1000d,
+							Benchmarks.millis( time )
+					);
+				}
+			}
+		}
+	}
+
+	private static SessionFactory buildSessionFactory(int cacheSize) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( JdbcSettings.SHOW_SQL, false )
+				.applySetting( StatisticsSettings.GENERATE_STATISTICS, true )
+				.applySetting( StatisticsInitiator.STATS_BUILDER, new QueryPlanStatistics.Factory() )
+				.applySetting( QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE, cacheSize )
+				.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package org.hibernate.test.liberty;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/// Extends Hibernate's [Statistics][org.hibernate.stat.Statistics] with query
+/// interpretation (plan) cache metrics per query string - hits, compilations and
+/// compile time - and emits a JFR [QueryCompilation] event for each compilation.
+///
+/// The cache itself does not expose evictions, so they are inferred: a query being
+/// compiled again after its first compilation must have been evicted in between.
+///
+/// Enabled with
+/// ```
+/// hibernate.generate_statistics=true
+/// hibernate.stats.factory=org.hibernate.test.liberty.QueryPlanStatistics$Factory
+/// ```
+public class QueryPlanStatistics extends StatisticsImpl {
+	/// Cache metrics of a single query string
+	public static class QueryPlanEntry {
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder compilations = new LongAdder();
+		private final LongAdder compileMicros = new LongAdder();
+		private final LongAccumulator maxCompileMicros = new LongAccumulator( Math::max, 0 );
+
+		public long getHits() {
+			return hits.sum();
+		}
+
+		public long getCompilations() {
+			return compilations.sum();
+		}
+
+		/// Compilations after the first, implying the entry had been evicted
+		public long getRecompilations() {
+			return Math.max( 0, compilations.sum() - 1 );
+		}
+
+		public long getTotalCompileMicros() {
+			return compileMicros.sum();
+		}
+
+		public long getMaxCompileMicros() {
+			return maxCompileMicros.get();
+		}
+	}
+
+	@Name("org.hibernate.test.liberty.QueryCompilation")
+	@Label("Query Compilation")
+	@Category({ "Hibernate", "Query" })
+	@Description("Interpretation of a query string which was not found in the query plan cache")
+	public static class QueryCompilation extends Event {
+		@Label("Query")
+		String query;
+
+		@Label("Compile Time")
+		@Timespan(Timespan.MICROSECONDS)
+		long compileTime;
+
+		@Label("Recompilation")
+		boolean recompilation;
+	}
+
+	public static class Factory implements StatisticsFactory {
+		@Override
+		public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+			return new QueryPlanStatistics( sessionFactory );
+		}
+	}
+
+	private final Map<String, QueryPlanEntry> queryPlanEntries = new ConcurrentHashMap<>();
+
+	public QueryPlanStatistics(SessionFactoryImplementor sessionFactory) {
+		super( sessionFactory );
+	}
+
+	/// Metrics for each query string seen so far
+	public Map<String, QueryPlanEntry> getQueryPlanEntries() {
+		return queryPlanEntries;
+	}
+
+	public QueryPlanEntry getQueryPlanEntry(String query) {
+		return queryPlanEntries.get( query );
+	}
+
+	public long getQueryPlanCacheRecompilationCount() {
+		return queryPlanEntries.values().stream().mapToLong( QueryPlanEntry::getRecompilations ).sum();
+	}
+
+	@Override
+	public void queryPlanCacheHit(String query) {
+		super.queryPlanCacheHit( query );
+		entry( query ).hits.increment();
+	}
+
+	@Override
+	public void queryCompiled(String query, long microseconds) {
+		super.queryCompiled( query, microseconds );
+		final QueryPlanEntry entry = entry( query );
+		entry.compilations.increment();
+		entry.compileMicros.add( microseconds );
+		entry.maxCompileMicros.accumulate( microseconds );
+
+		final QueryCompilation event = new QueryCompilation();
+		if ( event.isEnabled() ) {
+			event.query = query;
+			event.compileTime = microseconds;
+			event.recompilation = entry.getCompilations() > 1;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		queryPlanEntries.clear();
+	}
+
+	private QueryPlanEntry entry(String query) {
+		return queryPlanEntries.computeIfAbsent( query, (key) -> new QueryPlanEntry() );
+	}
+}
@@ -0,0 +1,96 @@
+package org.hibernate.test.liberty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.named.NamedObjectRepository;
+
+/// Precompiles queries into the query interpretation cache as the SessionFactory
+/// is created, so that the first request after a restart does not pay for parsing
+/// and semantic analysis.
+///
+/// Covers all named queries as well as a list of [hot queries][HotQuery], compiled
+/// in parallel on the given [Executor].  Creation of the SessionFactory blocks until
+/// warm-up has finished.  Failures (e.g. a non-compliant query with JPA query
+/// compliance enabled) are collected in the [#getReport() report] rather than thrown.
+///
+/// @implNote SQL rendering happens on first execution and is then cached per query
+/// plan; warm-up does not execute anything.
+public class QueryWarmup implements SessionFactoryObserver {
+	/// An HQL query expected to be executed frequently.  The result type is part of
+	/// the interpretation cache key, so must match the one used by the application.
+	public record HotQuery(String hql, Class<?> resultType) {
+	}
+
+	public record Report(int namedQueries, int hotQueries, Duration elapsed, List<String> failures) {
+	}
+
+	private final List<HotQuery> hotQueries;
+	private final Executor executor;
+
+	private volatile Report report;
+
+	public QueryWarmup(List<HotQuery> hotQueries, Executor executor) {
+		this.hotQueries = hotQueries;
+		this.executor = executor;
+	}
+
+	public Report getReport() {
+		return report;
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final long start = System.nanoTime();
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final List<String> failures = Collections.synchronizedList( new ArrayList<>() );
+		final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+		final List<String> namedQueries = new ArrayList<>();
+		final NamedObjectRepository namedObjectRepository = sessionFactory.getQueryEngine().getNamedObjectRepository();
+		namedObjectRepository.visitSqmQueryMementos( (memento) -> namedQueries.add( memento.getRegistrationName() ) );
+		namedObjectRepository.visitNativeQueryMementos( (memento) -> namedQueries.add( memento.getRegistrationName() ) );
+
+		for ( String name : namedQueries ) {
+			tasks.add( compile( sessionFactory, name, (session) -> session.createNamedQuery( name ), failures ) );
+		}
+		for ( HotQuery hotQuery : hotQueries ) {
+			tasks.add( compile(
+					sessionFactory,
+					hotQuery.hql(),
+					(session) -> session.createQuery( hotQuery.hql(), hotQuery.resultType() ),
+					failures
+			) );
+		}
+
+		CompletableFuture.allOf( tasks.toArray( CompletableFuture[]::new ) ).join();
+		report = new Report( namedQueries.size(), hotQueries.size(), Duration.ofNanos( System.nanoTime() - start ), List.copyOf( failures ) );
+	}
+
+	private CompletableFuture<Void> compile(
+			SessionFactoryImplementor sessionFactory,
+			String query,
+			Consumer<Session> compilation,
+			List<String> failures) {
+		return CompletableFuture.runAsync(
+				() -> {
+					try ( Session session = sessionFactory.openSession() ) {
+						compilation.accept( session );
+					}
+					catch (RuntimeException e) {
+						failures.add( query + " : " + e.getMessage() );
+					}
+				},
+				executor
+		);
+	}
+}
@@ -0,0 +1,138 @@
+package org.hibernate.test.liberty;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.Session;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.JpaComplianceSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.hibernate.test.liberty.QueryWarmup.HotQuery;
+
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Tests [QueryWarmup] using the queries of QueryFunctionTests and QueryGroupByTests.
+///
+/// The SessionFactory is built by each test, with and without warm-up.
+@DomainModel(annotatedClasses = { Book.class, QueryGroupByTests.Person.class, QueryGroupByTests.Name.class })
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = JpaComplianceSettings.JPA_QUERY_COMPLIANCE, value = "false")
+})
+public class QueryWarmupTests {
+	public static final List<HotQuery> HOT_QUERIES = List.of(
+			new HotQuery( "select id, function( 'dbo.multiplied_number' as integer, 2 ) from Book", Tuple.class ),
+			new HotQuery( "select id, dbo.constant_number() from Book", Tuple.class ),
+			new HotQuery( "select b from Book b order by function( 'dbo.constant_number' as int)", Book.class ),
+			new HotQuery( "select b from Book b order by function( 'dbo.multiplied_number' as int, 2)", Book.class ),
+			new HotQuery( "select b from Book b where b.id = function( 'dbo.multiplied_number' as int, 2)", Book.class ),
+			new HotQuery( "select count(p.id) from Person p group by p.name", Long.class ),
+			new HotQuery( "select count(p.id) from Person p group by p.name.firstName, p.name.lastName", Long.class ),
+			new HotQuery( "select count(*) from Person p group by p.dob, p.name.lastName", Long.class ),
+			new HotQuery( "select p.dob, p.name.lastName, count(*) from Person p group by p.dob, p.name.lastName having p.dob > :dob", Object[].class )
+	);
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	void createExecutor() {
+		executor = Executors.newFixedThreadPool( Runtime.getRuntime().availableProcessors() );
+	}
+
+	@AfterEach
+	void shutdownExecutor() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void testWarmup(DomainModelScope modelScope) {
+		final QueryWarmup warmup = new QueryWarmup( HOT_QUERIES, executor );
+		try ( var sessionFactory = buildSessionFactory( modelScope, warmup ) ) {
+			assertThat( warmup.getReport().failures() ).isEmpty();
+			assertThat( warmup.getReport().namedQueries() ).isEqualTo( 1 );
+			assertThat( warmup.getReport().hotQueries() ).isEqualTo( HOT_QUERIES.size() );
+
+			final Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+			try ( Session session = sessionFactory.openSession() ) {
+				HOT_QUERIES.forEach( (hotQuery) -> session.createQuery( hotQuery.hql(), hotQuery.resultType() ) );
+			}
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isZero();
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( HOT_QUERIES.size() );
+		}
+	}
+
+	/// Builds a SessionFactory per iteration and mode and times the first creation and
+	/// the first execution of each hot query, the latter being when the SQL is rendered.
+	///
+	/// Whichever mode runs first in the JVM also pays for class loading and JIT
+	/// compilation of Hibernate itself, so the order of the modes alternates across
+	/// iterations; compare the modes within the same iteration, or the later ones.
+	@Test
+	@Tag(Benchmarks.TAG)
+	void testFirstCallLatency(DomainModelScope modelScope) {
+		try ( var report = new BenchmarkReport(
+				"query-warmup",
+				"iteration", "warmup", "query", "build_millis", "create_micros", "first_list_micros"
+		) ) {
+			for ( int i = 0; i < Benchmarks.iterations(); i++ ) {
+				final int iteration = i;
+				final List<Boolean> modes = iteration % 2 == 0 ? List.of( false, true ) : List.of( true, false );
+				for ( boolean enabled : modes ) {
+					final QueryWarmup warmup = enabled ? new QueryWarmup( HOT_QUERIES, executor ) : null;
+					final long start = System.nanoTime();
+					try ( var sessionFactory = buildSessionFactory( modelScope, warmup ) ) {
+						final double buildTime = Benchmarks.millis( System.nanoTime() - start );
+						sessionFactory.inTransaction( (session) -> session.doWork( Scenarios::createDatabaseObjects ) );
+						try {
+							for ( HotQuery hotQuery : HOT_QUERIES ) {
+								sessionFactory.inTransaction( (session) -> {
+									final Query<?>[] query = new Query<?>[1];
+									final long createTime = Benchmarks.time( () -> query[0] = session.createQuery( hotQuery.hql(), hotQuery.resultType() ) );
+									bindParameters( query[0] );
+									final long listTime = Benchmarks.time( query[0]::list );
+									report.row( iteration, enabled, hotQuery.hql(), buildTime, createTime / 1000d, listTime / 1000d );
+								} );
+							}
+						}
+						finally {
+							sessionFactory.inTransaction( (session) -> session.doWork( Scenarios::dropDatabaseObjects ) );
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/// Binds the parameter of the HAVING query
+	private static void bindParameters(Query<?> query) {
+		if ( query.getParameterMetadata().getNamedParameterNames().contains( "dob" ) ) {
+			query.setParameter( "dob", Instant.now() );
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(DomainModelScope modelScope, QueryWarmup warmup) {
+		final SessionFactoryBuilder builder = modelScope.getDomainModel().getSessionFactoryBuilder();
+		if ( warmup != null ) {
+			builder.addSessionFactoryObservers( warmup );
+		}
+		return (SessionFactoryImplementor) builder.build();
+	}
+}
@@ -12,10 +12,13 @@ import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
+ * The {@code *Sql} tests compare the SQL of the native queries against their
+ * {@link SqlSnapshots} golden files.
+ *
  * @author Steve Ebersole
  */
 @DomainModel(annotatedClasses = Book.class)
-@SessionFactory
+@SessionFactory(useCollectingStatementInspector = true)
 public class ResultSetMappingTests {
 
 	@Test
@@ -77,11 +80,90 @@ public class ResultSetMappingTests {
 		} );
 	}
 
+	/// Read-only report queries need no persistence context, so the same mappings are
+	/// also read through a StatelessSession - no snapshots, no dirty checking
+	@Test
+	@AnalysisItem( id = 13, feature = "Native query result mapping", description = "Using resultClass without full mapping",
+			behavioralDifference = "EclipseLink accepts partial mapping; Hibernate requires full match")
+	void testStatelessResultClassMapping(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().inStatelessTransaction( (session) -> {
+			final List<Book> books = session.createNativeQuery( "select * from books", Book.class ).list();
+			assertThat( books ).hasSize( 1 );
+			assertThat( books.getFirst().getId() ).isEqualTo( 1 );
+			assertThat( books.getFirst().getTitle() ).isEqualTo( "Pet Cemetery" );
+		} );
+
+		// and a partial mapping
+		factoryScope.getSessionFactory().inStatelessTransaction( (session) -> {
+			final List<Book> books = session.createNativeQuery( "select id, title, isbn from books", Book.class ).list();
+			assertThat( books ).hasSize( 1 );
+			assertThat( books.getFirst().getId() ).isEqualTo( 1 );
+			assertThat( books.getFirst().getTitle() ).isEqualTo( "Pet Cemetery" );
+		} );
+	}
+
+	@Test
+	@AnalysisItem( id = 14, feature = "@NamedNativeQuery result mapping", description = "Native query with resultClass",
+			behavioralDifference = "EclipseLink accepts flexible mapping; Hibernate requires exact match")
+	void testStatelessNamedNativeQuery(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().inStatelessTransaction( (session) -> {
+			final List<Book> books = session.createNamedQuery( "book-complete", Book.class ).list();
+			assertThat( books ).hasSize( 1 );
+			assertThat( books.getFirst().getId() ).isEqualTo( 1 );
+			assertThat( books.getFirst().getTitle() ).isEqualTo( "Pet Cemetery" );
+		} );
+	}
+
+	@Test
+	@AnalysisItem( id = 16, feature = "@SqlResultSetMapping mismatch", description = "Mapping native query results to entity",
+			behavioralDifference = "EclipseLink tolerates mismatch; Hibernate throws if mapping is off")
+	void testStatelessResultSetMapping(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().inStatelessTransaction( (session) -> {
+			final List<Book> books = session.createNativeQuery( "select * from books", "book-complete", Book.class ).list();
+			assertThat( books ).hasSize( 1 );
+			assertThat( books.getFirst().getId() ).isEqualTo( 1 );
+			assertThat( books.getFirst().getTitle() ).isEqualTo( "Pet Cemetery" );
+		} );
+	}
+
+	@Test
+	void testNativeResultClassSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createNativeQuery( "select * from books", Book.class ).list();
+		} );
+		verifySql( factoryScope, "nativeResultClass" );
+	}
+
+	@Test
+	void testNamedNativeQuerySql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createNamedQuery( "book-complete", Book.class ).list();
+		} );
+		verifySql( factoryScope, "namedNativeQuery" );
+	}
+
+	@Test
+	void testResultSetMappingSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			session.createNativeQuery( "select * from books", "book-complete", Book.class ).list();
+		} );
+		verifySql( factoryScope, "resultSetMapping" );
+	}
+
+	private void verifySql(SessionFactoryScope factoryScope, String scenario) {
+		SqlSnapshots.verify(
+				"ResultSetMappingTests/" + scenario,
+				"defaults",
+				factoryScope.getCollectingStatementInspector().getSqlQueries()
+		);
+	}
+
 	@BeforeEach
 	void setUp(SessionFactoryScope factoryScope) {
 		factoryScope.inTransaction( (session) -> {
 			session.persist( new Book( 1, "Pet Cemetery", "Stephen King", "123-45-6789" ) );
 		} );
+		factoryScope.getCollectingStatementInspector().clear();
 	}
 
 	@AfterEach
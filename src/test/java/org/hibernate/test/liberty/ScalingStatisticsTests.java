@@ -0,0 +1,66 @@
+package org.hibernate.test.liberty;
+
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistryProducer;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.hibernate.test.liberty.Scenarios.Scenario;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// The [statistics][LatencyStatistics] export of [ScalingTests], using its
+/// configuration with `liberty.statistics.export` enabled, on a small data set
+@DomainModel(annotatedClasses = {
+		Book.class,
+		QueryGroupByTests.Person.class,
+		QueryGroupByTests.Name.class,
+		NestedCompositeKeyTests.Level3.class,
+		NestedCompositeKeyTests.Level2.class,
+		NestedCompositeKeyTests.Level1.class,
+		NestedCompositeKeyTests.Something.class,
+		TableGenerationTests.Things.class
+})
+@SessionFactory
+public class ScalingStatisticsTests implements ServiceRegistryProducer {
+	@Override
+	public StandardServiceRegistry produceServiceRegistry(StandardServiceRegistryBuilder standardServiceRegistryBuilder) {
+		return ScalingTests.applySettings( standardServiceRegistryBuilder, true ).build();
+	}
+
+	@Override
+	public void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder bootstrapServiceRegistryBuilder) {
+		ScalingTests.applyIntegrators( bootstrapServiceRegistryBuilder, true );
+	}
+
+	@Test
+	void testExportedHistograms(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).loadAll( 100 );
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::createDatabaseObjects ) );
+
+		final StatisticsSnapshot before = StatisticsSnapshot.of( factoryScope.getSessionFactory().getStatistics() );
+		for ( Scenario scenario : Scenarios.standard() ) {
+			factoryScope.inTransaction( scenario.action()::accept );
+		}
+		final StatisticsSnapshot difference = StatisticsSnapshot.of( factoryScope.getSessionFactory().getStatistics() ).minus( before );
+		MetricsExporter.export( "scaling-statistics", difference );
+
+		assertThat( difference.histograms().get( LatencyStatistics.LOAD ).count() ).isPositive();
+		assertThat( difference.histograms().get( LatencyStatistics.FLUSH ).count() ).isPositive();
+		assertThat( MetricsExporter.toPrometheus( "scaling-statistics", difference ) )
+				.contains( "# TYPE hibernate_load_duration_seconds histogram\n" )
+				.contains( "# TYPE hibernate_flush_duration_seconds histogram\n" );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::dropDatabaseObjects ) );
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,129 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.SessionEventSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.internal.StatisticsInitiator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistryProducer;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.hibernate.test.liberty.Scenarios.Scenario;
+
+/// Runs each of the [Scenarios] against increasing amounts of [generated][DataGenerator]
+/// data, reporting latency per row count to `build/benchmarks/scaling.csv`.
+///
+/// The scale points default to 10³-10⁵ rows per entity; use, e.g.,
+/// `./gradlew benchmark --tests '*ScalingTests' -Pliberty.scales=1000,1000000,10000000`
+/// for larger runs.
+///
+/// With `-Pliberty.statistics.export=true`, the [statistics][LatencyStatistics] of the
+/// measured iterations of each scenario are also [exported][MetricsExporter].
+@Tag(Benchmarks.TAG)
+@TestInstance( TestInstance.Lifecycle.PER_METHOD )
+@ParameterizedClass
+@MethodSource("scales")
+@DomainModel(annotatedClasses = {
+		Book.class,
+		QueryGroupByTests.Person.class,
+		QueryGroupByTests.Name.class,
+		NestedCompositeKeyTests.Level3.class,
+		NestedCompositeKeyTests.Level2.class,
+		NestedCompositeKeyTests.Level1.class,
+		NestedCompositeKeyTests.Something.class,
+		TableGenerationTests.Things.class
+})
+@SessionFactory
+public class ScalingTests implements ServiceRegistryProducer {
+	/// Whether batched inserts should be sent using SQL Server bulk copy
+	public static final String BULK_COPY = "liberty.generator.bulk_copy";
+
+	public static List<Integer> scales() {
+		return Benchmarks.intList( "liberty.scales", "1000,10000,100000" );
+	}
+
+	private final int scale;
+
+	public ScalingTests(int scale) {
+		this.scale = scale;
+	}
+
+	@Override
+	public StandardServiceRegistry produceServiceRegistry(StandardServiceRegistryBuilder standardServiceRegistryBuilder) {
+		// the passed builder carries the bootstrap registry with the integrators applied below
+		return applySettings( standardServiceRegistryBuilder, exportStatistics() ).build();
+	}
+
+	@Override
+	public void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder bootstrapServiceRegistryBuilder) {
+		applyIntegrators( bootstrapServiceRegistryBuilder, exportStatistics() );
+	}
+
+	/// The settings of this benchmark, shared with ScalingStatisticsTests
+	static StandardServiceRegistryBuilder applySettings(StandardServiceRegistryBuilder builder, boolean exportStatistics) {
+		builder.applySetting( JdbcSettings.SHOW_SQL, false )
+				// passed through to the driver as a connection property
+				.applySetting( "hibernate.connection.useBulkCopyForBatchInsert", Benchmarks.booleanValue( BULK_COPY, true ) );
+		if ( exportStatistics ) {
+			builder.applySetting( StatisticsSettings.GENERATE_STATISTICS, true )
+					.applySetting( StatisticsInitiator.STATS_BUILDER, LatencyStatistics.Factory.class.getName() )
+					.applySetting( SessionEventSettings.AUTO_SESSION_EVENTS_LISTENER, LatencyStatistics.StatementTimer.class.getName() );
+		}
+		return builder;
+	}
+
+	static void applyIntegrators(BootstrapServiceRegistryBuilder builder, boolean exportStatistics) {
+		if ( exportStatistics ) {
+			builder.applyIntegrator( new LatencyStatistics.Listeners() );
+		}
+	}
+
+	private static boolean exportStatistics() {
+		return Benchmarks.booleanValue( MetricsExporter.EXPORT, false );
+	}
+
+	@Test
+	void testScenarios(SessionFactoryScope factoryScope) {
+		final DataGenerator generator = new DataGenerator( factoryScope.getSessionFactory() );
+		final long loadTime = Benchmarks.time( () -> generator.loadAll( scale ) );
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::createDatabaseObjects ) );
+
+		try ( var report = new BenchmarkReport( "scaling", "rows", "scenario", "iteration", "millis" ) ) {
+			report.row( scale, "data-load", 0, Benchmarks.millis( loadTime ) );
+
+			for ( Scenario scenario : Scenarios.standard() ) {
+				// warm-up, not recorded
+				factoryScope.inTransaction( scenario.action()::accept );
+
+				final StatisticsSnapshot before = StatisticsSnapshot.of( factoryScope.getSessionFactory().getStatistics() );
+				for ( int i = 1; i <= Benchmarks.iterations(); i++ ) {
+					final long time = Benchmarks.time( () -> factoryScope.inTransaction( scenario.action()::accept ) );
+					report.row( scale, scenario.name(), i, Benchmarks.millis( time ) );
+				}
+				if ( exportStatistics() ) {
+					final StatisticsSnapshot after = StatisticsSnapshot.of( factoryScope.getSessionFactory().getStatistics() );
+					MetricsExporter.export( "scaling-" + scale + "-" + scenario.name(), after.minus( before ) );
+				}
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> session.doWork( Scenarios::dropDatabaseObjects ) );
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,162 @@
+package org.hibernate.test.liberty;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.procedure.ProcedureCall;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.test.liberty.NestedCompositeKeyTests.Something;
+import org.hibernate.test.liberty.TableGenerationTests.Things;
+
+import jakarta.persistence.ParameterMode;
+
+/// The operations exercised by the analysis tests, in a form which can be run
+/// repeatedly against arbitrary amounts of data (see [DataGenerator]).
+///
+/// Full-table reads are scrolled, periodically clearing the session, so they
+/// remain usable at 10⁶+ rows.
+///
+/// @see ScalingTests
+public final class Scenarios {
+	/// A named unit of work, run within a transaction
+	public record Scenario(String name, Consumer<Session> action) {
+	}
+
+	private static final int CLEAR_INTERVAL = 1000;
+
+	private Scenarios() {
+	}
+
+	/// All scenarios.  The function and procedure based ones require
+	/// [#createDatabaseObjects(Connection)].
+	public static List<Scenario> standard() {
+		return List.of(
+				// ResultSetMappingTests
+				new Scenario( "native-result-class", (session) -> scroll(
+						session,
+						session.createNativeQuery( "select * from books", Book.class )
+				) ),
+				new Scenario( "named-native-query", (session) -> scroll(
+						session,
+						session.createNamedQuery( "book-complete", Book.class )
+				) ),
+				new Scenario( "result-set-mapping", (session) -> scroll(
+						session,
+						session.createNativeQuery( "select * from books", "book-complete", Book.class )
+				) ),
+				// QueryGroupByTests
+				new Scenario( "group-by-embedded", (session) -> scroll(
+						session,
+						session.createSelectionQuery( "select count(p.id) from Person p group by p.name", Long.class )
+				) ),
+				new Scenario( "group-by-non-selected", (session) -> scroll(
+						session,
+						session.createSelectionQuery( "select count(*) from Person p group by p.dob, p.name.lastName", Long.class )
+				) ),
+				new Scenario( "having-non-aggregated", (session) -> scroll(
+						session,
+						session.createSelectionQuery( "select p.dob, p.name.lastName, count(*) from Person p group by p.dob, p.name.lastName having p.dob > :dob", Object[].class )
+								.setParameter( "dob", Instant.now() )
+				) ),
+				// QueryFunctionTests
+				new Scenario( "function-order-by", (session) -> scroll(
+						session,
+						session.createSelectionQuery( "select b from Book b order by function( 'dbo.multiplied_number' as int, 2)", Book.class )
+				) ),
+				new Scenario( "function-comparison", (session) -> scroll(
+						session,
+						session.createSelectionQuery( "select b from Book b where b.id = function( 'dbo.multiplied_number' as int, 2)", Book.class )
+				) ),
+				// StoredProcedureParameterTests
+				new Scenario( "stored-procedure", (session) -> {
+					final ProcedureCall spCountBooks = session.createStoredProcedureQuery( "sp_count_books" );
+					spCountBooks.registerParameter( 1, String.class, ParameterMode.IN );
+					spCountBooks.registerParameter( 2, int.class, ParameterMode.OUT );
+					spCountBooks.setParameter( 1, "Stephen King" );
+					spCountBooks.execute();
+					spCountBooks.getOutputParameterValue( 2 );
+				} ),
+				// NestedCompositeKeyTests
+				new Scenario( "composite-key-find", (session) -> {
+					for ( int i = 1; i <= 100; i++ ) {
+						session.find( Something.class, DataGenerator.somethingKey( i ) );
+					}
+				} ),
+				// TableGenerationTests
+				new Scenario( "table-generated-insert", (session) -> {
+					for ( int i = 1; i <= 100; i++ ) {
+						session.persist( new Things( "scenario" ) );
+					}
+				} )
+		);
+	}
+
+	private static void scroll(Session session, SelectionQuery<?> query) {
+		try ( ScrollableResults<?> results = query.scroll( ScrollMode.FORWARD_ONLY ) ) {
+			int count = 0;
+			while ( results.next() ) {
+				if ( ++count % CLEAR_INTERVAL == 0 ) {
+					session.clear();
+				}
+			}
+		}
+	}
+
+	/// Creates the functions used by QueryFunctionTests and the procedure used
+	/// by StoredProcedureParameterTests
+	public static void createDatabaseObjects(Connection connection) throws SQLException {
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute(
+					"""
+						create function constant_number()
+						returns int
+						as
+						begin
+							return 1
+						end
+						"""
+			);
+			statement.execute(
+					"""
+						create function multiplied_number(
+						    @base int
+						)
+						returns int
+						as
+						begin
+							return @base *2
+						end
+						"""
+			);
+			statement.execute(
+					"""
+						create procedure sp_count_books
+							@author varchar,
+							@bookCount int output
+						as
+						begin
+							select @bookCount = count(1)
+							from books
+							where author = @author
+						END
+						"""
+			);
+		}
+	}
+
+	public static void dropDatabaseObjects(Connection connection) throws SQLException {
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute( "drop function constant_number" );
+			statement.execute( "drop function multiplied_number" );
+			statement.execute( "drop procedure sp_count_books" );
+		}
+	}
+}
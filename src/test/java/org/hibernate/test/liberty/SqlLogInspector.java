@@ -0,0 +1,55 @@
+package org.hibernate.test.liberty;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.StringMapMessage;
+
+/// Logs a sample of the SQL statements Hibernate prepares to the `liberty.SQL`
+/// log4j logger, as a structured (key/value) message.  Unlike `hibernate.show_sql`,
+/// which writes every statement to stdout synchronously, the logger is routed to an
+/// asynchronous appender (see `log4j2-test.xml`).
+///
+/// Used by the `benchmark` task for all tests (see `build.gradle`).  The fraction of
+/// statements logged is `liberty.sql_log.sample_rate` (default `0.01`).
+/// String literals are redacted; bind parameter values are never part of the
+/// statement and their own loggers are disabled.  Slow statements are logged by
+/// Hibernate itself, per `hibernate.log_slow_query`, to the same channel.
+public class SqlLogInspector implements StatementInspector {
+	public static final String SAMPLE_RATE = "liberty.sql_log.sample_rate";
+
+	private static final Logger LOG = LogManager.getLogger( "liberty.SQL" );
+	private static final Pattern STRING_LITERAL = Pattern.compile( "'(?:[^']|'')*'" );
+
+	private final double sampleRate;
+
+	public SqlLogInspector() {
+		this( Benchmarks.doubleValue( SAMPLE_RATE, 0.01 ) );
+	}
+
+	public SqlLogInspector(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		if ( LOG.isDebugEnabled() && sampled() ) {
+			LOG.debug( new StringMapMessage()
+					.with( "sampleRate", Double.toString( sampleRate ) )
+					.with( "sql", redact( sql ) ) );
+		}
+		return sql;
+	}
+
+	private boolean sampled() {
+		return sampleRate >= 1 || sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+	public static String redact(String sql) {
+		return STRING_LITERAL.matcher( sql ).replaceAll( "'?'" );
+	}
+}
@@ -0,0 +1,90 @@
+package org.hibernate.test.liberty;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Logging of SQL via [SqlLogInspector], and its overhead compared to
+/// `hibernate.show_sql`
+public class SqlLoggingTests {
+	private enum Mode {
+		NONE( false, (sql) -> sql ),
+		SHOW_SQL( true, (sql) -> sql ),
+		LOG_ALL( false, new SqlLogInspector( 1 ) ),
+		LOG_SAMPLED( false, new SqlLogInspector( 0.01 ) );
+
+		private final boolean showSql;
+		private final StatementInspector inspector;
+
+		Mode(boolean showSql, StatementInspector inspector) {
+			this.showSql = showSql;
+			this.inspector = inspector;
+		}
+	}
+
+	@Test
+	void testRedaction() {
+		assertThat( SqlLogInspector.redact( "select b1_0.id from books b1_0 where b1_0.author='Stephen King' and b1_0.id=?" ) )
+				.isEqualTo( "select b1_0.id from books b1_0 where b1_0.author='?' and b1_0.id=?" );
+		assertThat( SqlLogInspector.redact( "select 1 from persons where last_name = N'O''Brien'" ) )
+				.isEqualTo( "select 1 from persons where last_name = N'?'" );
+	}
+
+	@Test
+	@Tag(Benchmarks.TAG)
+	void testLoggingOverhead() {
+		final int rows = 100;
+		final int operations = Benchmarks.intValue( "liberty.sql_log.operations", 5000 );
+
+		try ( var report = new BenchmarkReport( "sql-logging", "mode", "operations", "millis", "micros_per_op" ) ) {
+			for ( Mode mode : Mode.values() ) {
+				try ( SessionFactory sessionFactory = buildSessionFactory( mode ) ) {
+					new DataGenerator( sessionFactory ).books( rows );
+
+					for ( boolean warmup : new boolean[] { true, false } ) {
+						final long time = Benchmarks.time( () -> {
+							try ( Session session = sessionFactory.openSession() ) {
+								for ( int i = 0; i < operations; i++ ) {
+									session.createSelectionQuery( "from Book where id = :id", Book.class )
+											.setParameter( "id", 1 + i % rows )
+											.getSingleResult();
+									session.clear();
+								}
+							}
+						} );
+						if ( !warmup ) {
+							report.row( mode, operations, Benchmarks.millis( time ), time / 1000d / operations );
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static SessionFactory buildSessionFactory(Mode mode) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( JdbcSettings.SHOW_SQL, mode.showSql )
+				.applySetting( AvailableSettings.STATEMENT_INSPECTOR, mode.inspector )
+				.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package org.hibernate.test.liberty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.Version;
+
+/// Golden-file snapshots of the SQL rendered for a scenario, used to catch changes
+/// in the shape of generated SQL across ORM versions and settings (e.g. JPA query
+/// compliance).
+///
+/// The expected statements of each scenario are committed as
+/// `src/test/resources/sql-snapshots/{scenario}.sql`.  Each run writes the current
+/// statements to `build/sql-snapshots/{scenario}.sql` and compares:
+/// * a scenario without a golden file fails the test
+/// * changes which matter for performance - a different number of statements,
+/// 	additional joins, fewer restrictions, a different GROUP BY column list -
+/// 	fail the test
+/// * any other textual difference is only reported
+///
+/// Pass `-Pliberty.sql_snapshots.record=true` to (re-)record the golden files instead,
+/// the only case in which anything is written into the source tree.
+public final class SqlSnapshots {
+	public static final String RECORD = "liberty.sql_snapshots.record";
+
+	private static final Path GOLDEN_DIR = Path.of( "src", "test", "resources", "sql-snapshots" );
+	private static final Path ACTUAL_DIR = Path.of( "build", "sql-snapshots" );
+	private static final String HEADER = "-- ";
+
+	private static final Pattern JOIN = Pattern.compile( "\\bjoin\\b" );
+	private static final Pattern CONJUNCTION = Pattern.compile( "\\b(and|or)\\b" );
+	private static final Pattern WHERE = Pattern.compile( "\\bwhere\\b(.*?)(?=\\bgroup by\\b|\\bhaving\\b|\\border by\\b|\\boffset\\b|\\bfetch\\b|$)" );
+	private static final Pattern HAVING = Pattern.compile( "\\bhaving\\b(.*?)(?=\\border by\\b|\\boffset\\b|\\bfetch\\b|$)" );
+	private static final Pattern GROUP_BY = Pattern.compile( "\\bgroup by\\b(.*?)(?=\\bhaving\\b|\\border by\\b|\\boffset\\b|\\bfetch\\b|$)" );
+
+	private SqlSnapshots() {
+	}
+
+	/// The performance relevant aspects of a statement
+	record Shape(int joins, int restrictions, List<String> groupBy) {
+		static Shape of(String sql) {
+			final String normalized = sql.toLowerCase( Locale.ROOT ).replaceAll( "\\s+", " " );
+			return new Shape(
+					count( JOIN, normalized ),
+					restrictions( WHERE, normalized ) + restrictions( HAVING, normalized ),
+					clause( GROUP_BY, normalized )
+							.map( (groupBy) -> Arrays.stream( groupBy.split( "," ) ).map( String::trim ).toList() )
+							.orElse( List.of() )
+			);
+		}
+
+		private static int restrictions(Pattern pattern, String sql) {
+			return clause( pattern, sql ).map( (clause) -> 1 + count( CONJUNCTION, clause ) ).orElse( 0 );
+		}
+
+		private static Optional<String> clause(Pattern pattern, String sql) {
+			final Matcher matcher = pattern.matcher( sql );
+			return matcher.find() ? Optional.of( matcher.group( 1 ).trim() ) : Optional.empty();
+		}
+
+		private static int count(Pattern pattern, String sql) {
+			final Matcher matcher = pattern.matcher( sql );
+			int count = 0;
+			while ( matcher.find() ) {
+				count++;
+			}
+			return count;
+		}
+	}
+
+	/// @param scenario Path-like name of the scenario, e.g. `QueryGroupByTests/compliance-true/testGroupByEmbedded`
+	/// @param settings Description of relevant settings, recorded in the file header
+	public static void verify(String scenario, String settings, List<String> statements) {
+		final List<String> content = new ArrayList<>();
+		content.add( HEADER + "orm: " + Version.getVersionString() );
+		content.add( HEADER + "settings: " + settings );
+		content.addAll( statements );
+		write( ACTUAL_DIR.resolve( scenario + ".sql" ), content );
+
+		final Path golden = GOLDEN_DIR.resolve( scenario + ".sql" );
+		if ( Benchmarks.booleanValue( RECORD, false ) ) {
+			write( golden, content );
+			return;
+		}
+		if ( !Files.exists( golden ) ) {
+			throw new AssertionError( "No SQL snapshot " + golden + " for `" + scenario + "`; check "
+					+ ACTUAL_DIR.resolve( scenario + ".sql" ) + " and record it with -P" + RECORD + "=true" );
+		}
+
+		final List<String> goldenContent = read( golden );
+		final List<String> expected = goldenContent.stream().filter( (line) -> !line.startsWith( HEADER ) ).toList();
+		if ( expected.equals( statements ) ) {
+			return;
+		}
+
+		final String recordedWith = goldenContent.stream()
+				.filter( (line) -> line.startsWith( HEADER ) )
+				.map( (line) -> line.substring( HEADER.length() ) )
+				.toList()
+				.toString();
+		final List<String> regressions = compare( expected, statements );
+		final String message = "SQL for `" + scenario + "` differs from " + golden + " (recorded with " + recordedWith
+				+ "), see " + ACTUAL_DIR.resolve( scenario + ".sql" );
+		if ( regressions.isEmpty() ) {
+			System.out.println( "[sql-snapshots] " + message );
+		}
+		else {
+			throw new AssertionError( message + ":\n\t" + String.join( "\n\t", regressions ) );
+		}
+	}
+
+	/// Performance relevant differences between the expected and actual statements
+	static List<String> compare(List<String> expected, List<String> actual) {
+		final List<String> regressions = new ArrayList<>();
+		if ( expected.size() != actual.size() ) {
+			regressions.add( "number of statements changed from " + expected.size() + " to " + actual.size() );
+			return regressions;
+		}
+		for ( int i = 0; i < expected.size(); i++ ) {
+			final Shape before = Shape.of( expected.get( i ) );
+			final Shape after = Shape.of( actual.get( i ) );
+			if ( after.joins() > before.joins() ) {
+				regressions.add( "statement " + i + ": joins increased from " + before.joins() + " to " + after.joins() );
+			}
+			if ( after.restrictions() < before.restrictions() ) {
+				regressions.add( "statement " + i + ": restrictions decreased from " + before.restrictions() + " to " + after.restrictions() );
+			}
+			if ( !Objects.equals( before.groupBy(), after.groupBy() ) ) {
+				regressions.add( "statement " + i + ": group by changed from " + before.groupBy() + " to " + after.groupBy() );
+			}
+		}
+		return regressions;
+	}
+
+	private static List<String> read(Path file) {
+		try {
+			return Files.readAllLines( file );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Unable to read SQL snapshot " + file, e );
+		}
+	}
+
+	private static void write(Path file, List<String> lines) {
+		try {
+			Files.createDirectories( file.getParent() );
+			Files.write( file, lines );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Unable to write SQL snapshot " + file, e );
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package org.hibernate.test.liberty;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.cfg.JdbcSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Compares reading the native queries of ResultSetMappingTests through a Session
+/// versus a StatelessSession, in allocated bytes per row and rows per second.
+@Tag(Benchmarks.TAG)
+@DomainModel(annotatedClasses = Book.class)
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.SHOW_SQL, value = "false"))
+@SessionFactory
+public class StatelessReadTests {
+	private record Query(String name, Function<SharedSessionContract, List<?>> execution) {
+	}
+
+	private static final List<Query> QUERIES = List.of(
+			new Query( "result-class", (session) -> session.createNativeQuery( "select * from books", Book.class ).list() ),
+			new Query( "result-set-mapping", (session) -> session.createNativeQuery( "select * from books", "book-complete", Book.class ).list() ),
+			new Query( "partial-result-class", (session) -> session.createNativeQuery( "select id, title, isbn from books", Book.class ).list() )
+	);
+
+	@Test
+	void testSessionVersusStateless(SessionFactoryScope factoryScope) {
+		final int rows = Benchmarks.intValue( "liberty.stateless.rows", 100_000 );
+		new DataGenerator( factoryScope.getSessionFactory() ).books( rows );
+
+		try ( var report = new BenchmarkReport( "stateless-read", "query", "session", "rows", "bytes_per_row", "rows_per_sec" ) ) {
+			for ( Query query : QUERIES ) {
+				for ( boolean stateless : List.of( false, true ) ) {
+					final Benchmarks.Measurement median = Benchmarks.measure( () -> {
+						final List<?> results = stateless
+								? factoryScope.getSessionFactory().fromStatelessTransaction( query.execution() )
+								: factoryScope.fromTransaction( query.execution()::apply );
+						assertThat( results ).hasSize( rows );
+					} );
+					report.row(
+							query.name(),
+							stateless ? "stateless" : "stateful",
+							rows,
+							median.bytes() / rows,
+							rows / ( median.nanos() / 1_000_000_000d )
+					);
+				}
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,87 @@
+package org.hibernate.test.liberty;
+
+import org.hibernate.cfg.SessionEventSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.internal.StatisticsInitiator;
+
+import org.hibernate.testing.orm.junit.BootstrapServiceRegistry;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Snapshots and diffs of [LatencyStatistics], and their export by [MetricsExporter]
+@DomainModel(annotatedClasses = Book.class)
+@BootstrapServiceRegistry(integrators = LatencyStatistics.Listeners.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = StatisticsInitiator.STATS_BUILDER, value = "org.hibernate.test.liberty.LatencyStatistics$Factory"),
+		@Setting(name = SessionEventSettings.AUTO_SESSION_EVENTS_LISTENER, value = "org.hibernate.test.liberty.LatencyStatistics$StatementTimer")
+})
+@SessionFactory
+public class StatisticsExportTests {
+	@Test
+	void testHistogram() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( int i = 1; i <= 1000; i++ ) {
+			histogram.record( i * 1000L );
+		}
+		final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertThat( snapshot.count() ).isEqualTo( 1000 );
+		assertThat( snapshot.percentileNanos( 50 ) ).isBetween( 500_000L, 535_000L );
+		assertThat( snapshot.percentileNanos( 99 ) ).isBetween( 990_000L, 1_000_000L );
+		assertThat( snapshot.percentileNanos( 100 ) ).isEqualTo( 1_000_000L );
+
+		histogram.record( 5_000_000 );
+		final LatencyHistogram.Snapshot difference = histogram.snapshot().minus( snapshot );
+		assertThat( difference.count() ).isEqualTo( 1 );
+		assertThat( difference.percentileNanos( 50 ) ).isEqualTo( 5_000_000L );
+	}
+
+	@Test
+	void testSnapshotDifference(SessionFactoryScope factoryScope) {
+		final Statistics statistics = factoryScope.getSessionFactory().getStatistics();
+		assertThat( statistics ).isInstanceOf( LatencyStatistics.class );
+		final StatisticsSnapshot before = StatisticsSnapshot.of( statistics );
+
+		factoryScope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Title " + i, DataGenerator.bookAuthor( i ), DataGenerator.bookIsbn( i ) ) );
+			}
+		} );
+		factoryScope.inTransaction( (session) -> {
+			session.find( Book.class, 1 );
+			session.createSelectionQuery( "from Book", Book.class ).list();
+		} );
+
+		final StatisticsSnapshot difference = StatisticsSnapshot.of( statistics ).minus( before );
+		assertThat( difference.counters() )
+				.containsEntry( "entities_inserted", 10L )
+				.containsEntry( "queries_executed", 1L );
+		assertThat( difference.histograms().get( LatencyStatistics.QUERY ).count() ).isEqualTo( 1 );
+		// timed in nanoseconds, so a sub-millisecond query doesn't land in the first bucket
+		assertThat( difference.histograms().get( LatencyStatistics.QUERY ).percentileNanos( 100 ) ).isPositive();
+		assertThat( difference.histograms().get( LatencyStatistics.LOAD ).count() ).isPositive();
+		assertThat( difference.histograms().get( LatencyStatistics.FLUSH ).count() ).isGreaterThanOrEqualTo( 2 );
+
+		assertThat( MetricsExporter.toJson( "books", difference ) )
+				.contains( "\"entities_inserted\": 10" )
+				.contains( "\"query\": { \"count\": 1" );
+		assertThat( MetricsExporter.toPrometheus( "books", difference ) )
+				.contains( "hibernate_entities_inserted_total{scenario=\"books\"} 10\n" )
+				.contains( "# TYPE hibernate_flush_duration_seconds histogram\n" )
+				.contains( "hibernate_query_duration_seconds_bucket{scenario=\"books\",le=\"+Inf\"} 1\n" )
+				.contains( "hibernate_query_duration_seconds_count{scenario=\"books\"} 1\n" );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
@@ -0,0 +1,55 @@
+package org.hibernate.test.liberty;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.stat.Statistics;
+
+/// Point-in-time copy of the SessionFactory [Statistics] counters, plus the
+/// [LatencyStatistics] histograms when enabled.  Subtracting the snapshot taken
+/// before a scenario from the one taken after it gives the cost of the scenario.
+///
+/// @param counters Values of the counters, by (Prometheus style) name
+/// @param histograms Latency distributions, by name
+public record StatisticsSnapshot(Map<String, Long> counters, Map<String, LatencyHistogram.Snapshot> histograms) {
+	public static StatisticsSnapshot of(Statistics statistics) {
+		final Map<String, Long> counters = new LinkedHashMap<>();
+		counters.put( "sessions_opened", statistics.getSessionOpenCount() );
+		counters.put( "sessions_closed", statistics.getSessionCloseCount() );
+		counters.put( "transactions", statistics.getTransactionCount() );
+		counters.put( "connections_obtained", statistics.getConnectCount() );
+		counters.put( "statements_prepared", statistics.getPrepareStatementCount() );
+		counters.put( "flushes", statistics.getFlushCount() );
+		counters.put( "entities_loaded", statistics.getEntityLoadCount() );
+		counters.put( "entities_fetched", statistics.getEntityFetchCount() );
+		counters.put( "entities_inserted", statistics.getEntityInsertCount() );
+		counters.put( "entities_updated", statistics.getEntityUpdateCount() );
+		counters.put( "entities_deleted", statistics.getEntityDeleteCount() );
+		counters.put( "collections_loaded", statistics.getCollectionLoadCount() );
+		counters.put( "queries_executed", statistics.getQueryExecutionCount() );
+		counters.put( "query_plan_cache_hits", statistics.getQueryPlanCacheHitCount() );
+		counters.put( "query_plan_cache_misses", statistics.getQueryPlanCacheMissCount() );
+		counters.put( "second_level_cache_hits", statistics.getSecondLevelCacheHitCount() );
+		counters.put( "second_level_cache_misses", statistics.getSecondLevelCacheMissCount() );
+		counters.put( "optimistic_failures", statistics.getOptimisticFailureCount() );
+
+		final Map<String, LatencyHistogram.Snapshot> histograms = new LinkedHashMap<>();
+		if ( statistics instanceof LatencyStatistics latencyStatistics ) {
+			latencyStatistics.getHistograms().forEach( (name, histogram) -> histograms.put( name, histogram.snapshot() ) );
+		}
+		return new StatisticsSnapshot( counters, histograms );
+	}
+
+	/// What happened since `earlier`
+	public StatisticsSnapshot minus(StatisticsSnapshot earlier) {
+		final Map<String, Long> counterDifferences = new LinkedHashMap<>();
+		counters.forEach( (name, value) -> counterDifferences.put( name, value - earlier.counters.getOrDefault( name, 0L ) ) );
+
+		final Map<String, LatencyHistogram.Snapshot> histogramDifferences = new LinkedHashMap<>();
+		histograms.forEach( (name, histogram) -> {
+			final LatencyHistogram.Snapshot before = earlier.histograms.get( name );
+			histogramDifferences.put( name, before == null ? histogram : histogram.minus( before ) );
+		} );
+		return new StatisticsSnapshot( counterDifferences, histogramDifferences );
+	}
+}
@@ -15,10 +15,13 @@ import org.junit.jupiter.api.Test;
 import jakarta.persistence.ParameterMode;
 
 /**
+ * {@link #testCompliantProcedureCallSql} compares the call rendered for the procedure
+ * against its {@link SqlSnapshots} golden file.
+ *
  * @author Steve Ebersole
  */
 @DomainModel(annotatedClasses = Book.class)
-@SessionFactory
+@SessionFactory(useCollectingStatementInspector = true)
 public class StoredProcedureParameterTests {
 	@Test
 	void testCompliantProcedureCall(SessionFactoryScope factoryScope) {
@@ -32,6 +35,22 @@ public class StoredProcedureParameterTests {
 		} );
 	}
 
+	@Test
+	void testCompliantProcedureCallSql(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			final ProcedureCall spCountBooks = session.createStoredProcedureQuery( "sp_count_books" );
+			spCountBooks.registerParameter( 1, String.class, ParameterMode.IN );
+			spCountBooks.registerParameter( 2, int.class, ParameterMode.OUT );
+			spCountBooks.setParameter( 1, "Stephen King" );
+			spCountBooks.execute();
+		} );
+		SqlSnapshots.verify(
+				"StoredProcedureParameterTests/compliantProcedureCall",
+				"defaults",
+				factoryScope.getCollectingStatementInspector().getSqlQueries()
+		);
+	}
+
 	@Test
 	@AnalysisItem( id = 32, feature = "Stored Procedures INOUT/OUT", description = "Parameter mode handling",
 			behavioralDifference = "EclipseLink auto-detects mode; Hibernate needs manual declaration")
@@ -67,6 +86,7 @@ public class StoredProcedureParameterTests {
 				}
 			} );
 		} );
+		factoryScope.getCollectingStatementInspector().clear();
 	}
 
 	@AfterEach
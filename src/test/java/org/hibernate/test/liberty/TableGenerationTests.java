@@ -17,9 +17,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /// May also be used to check id-36, though waiting on clarification
 ///
+/// [#testGeneratedInsertSql] compares the SQL of the insert against its [SqlSnapshots]
+/// golden file.  The generator reads and updates its table on a separate connection,
+/// so those statements are not seen by the statement inspector.
+///
 /// @author Steve Ebersole
 @DomainModel(annotatedClasses = { TableGenerationTests.Things.class, TableGenerationTests.MoreThings.class})
-@SessionFactory
+@SessionFactory(useCollectingStatementInspector = true)
 public class TableGenerationTests {
 	/// Turns out this is about creating the id table *without* schema generation - iow, as the EMF is
 	/// bootstrapped, EclipseLink will generate the id table (I'd assume sequences too) always if needed.
@@ -34,6 +38,19 @@ public class TableGenerationTests {
 		} );
 	}
 
+	@Test
+	void testGeneratedInsertSql(SessionFactoryScope factoryScope) {
+		factoryScope.getCollectingStatementInspector().clear();
+		factoryScope.inTransaction( (session) -> {
+			session.persist( new Things( "stuff" ) );
+		} );
+		SqlSnapshots.verify(
+				"TableGenerationTests/generatedInsert",
+				"defaults",
+				factoryScope.getCollectingStatementInspector().getSqlQueries()
+		);
+	}
+
 	@AfterEach
 	void tearDown(SessionFactoryScope factoryScope) {
 		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
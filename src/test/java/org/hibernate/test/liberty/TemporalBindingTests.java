@@ -0,0 +1,173 @@
+package org.hibernate.test.liberty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.MappingSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistryProducer;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Binding and extraction of the temporal types used by the domain model here
+/// (`java.util.Date`, `java.sql.Date`, `Instant`) and their `java.time` alternatives,
+/// under the binding strategies Hibernate offers:
+/// * [Binding#DEFAULT] - on SQL Server, `Instant` goes through `OffsetDateTime` and
+/// 	`java.util.Date` through `Timestamp`
+/// * [Binding#DIRECT] - `java.time` values are passed to and read from the driver as
+/// 	is (`hibernate.type.java_time_use_direct_jdbc`), without intermediate conversions
+/// * [Binding#INSTANT_AS_TIMESTAMP] - `Instant` is stored as `datetime2`, bound as a
+/// 	UTC `Timestamp` (`hibernate.type.preferred_instant_jdbc_type=TIMESTAMP`)
+///
+/// The benchmark measures bytes allocated per row and rows per second of reading each
+/// type, and of inserting all of them.
+@TestInstance( TestInstance.Lifecycle.PER_METHOD )
+@ParameterizedClass
+@MethodSource("bindings")
+@DomainModel(annotatedClasses = TemporalBindingTests.Temporals.class)
+@SessionFactory
+public class TemporalBindingTests implements ServiceRegistryProducer {
+	public enum Binding {
+		DEFAULT,
+		DIRECT,
+		INSTANT_AS_TIMESTAMP
+	}
+
+	public static List<Binding> bindings() {
+		return List.of( Binding.values() );
+	}
+
+	private static final List<String> ATTRIBUTES = List.of( "id", "utilDate", "sqlDate", "instant", "localDateTime", "offsetDateTime" );
+
+	private final Binding binding;
+
+	public TemporalBindingTests(Binding binding) {
+		this.binding = binding;
+	}
+
+	@Override
+	public StandardServiceRegistry produceServiceRegistry(StandardServiceRegistryBuilder standardServiceRegistryBuilder) {
+		final StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder()
+				.applySetting( JdbcSettings.SHOW_SQL, false );
+		switch ( binding ) {
+			case DIRECT -> builder.applySetting( MappingSettings.JAVA_TIME_USE_DIRECT_JDBC, true );
+			case INSTANT_AS_TIMESTAMP -> builder.applySetting( MappingSettings.PREFERRED_INSTANT_JDBC_TYPE, "TIMESTAMP" );
+		}
+		return builder.build();
+	}
+
+	@Override
+	public void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder bootstrapServiceRegistryBuilder) {
+		// nothing to do
+	}
+
+	@Test
+	void testRoundTrip(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).load( 3, Temporals::new );
+
+		factoryScope.inTransaction( (session) -> {
+			final Temporals expected = new Temporals( 2 );
+			final Temporals temporals = session.find( Temporals.class, 2 );
+			assertThat( temporals.utilDate.getTime() ).isEqualTo( expected.utilDate.getTime() );
+			assertThat( temporals.sqlDate.toString() ).isEqualTo( expected.sqlDate.toString() );
+			assertThat( temporals.instant ).isEqualTo( expected.instant );
+			assertThat( temporals.localDateTime ).isEqualTo( expected.localDateTime );
+			assertThat( temporals.offsetDateTime.toInstant() ).isEqualTo( expected.offsetDateTime.toInstant() );
+		} );
+	}
+
+	@Test
+	@Tag(Benchmarks.TAG)
+	void testBindingCost(SessionFactoryScope factoryScope) {
+		final int rows = Benchmarks.intValue( "liberty.temporal.rows", 1_000_000 );
+		final DataGenerator generator = new DataGenerator( factoryScope.getSessionFactory() );
+
+		try ( var report = new BenchmarkReport( "temporal-binding", "binding", "attribute", "operation", "rows", "bytes_per_row", "rows_per_sec" ) ) {
+			final Benchmarks.Measurement insert = Benchmarks.measureOnce( () -> generator.load( rows, Temporals::new ) );
+			report.row( binding, "all", "insert", rows, insert.bytes() / rows, rows / ( insert.nanos() / 1_000_000_000d ) );
+
+			// `id` is the baseline, the cost of reading a row at all
+			for ( String attribute : ATTRIBUTES ) {
+				final Benchmarks.Measurement select = Benchmarks.measure( () -> read( factoryScope, attribute, rows ) );
+				report.row(
+						binding,
+						attribute,
+						"select",
+						rows,
+						select.bytes() / rows,
+						rows / ( select.nanos() / 1_000_000_000d )
+				);
+			}
+		}
+	}
+
+	private static void read(SessionFactoryScope factoryScope, String attribute, int rows) {
+		factoryScope.getSessionFactory().inStatelessSession( (session) -> {
+			int count = 0;
+			try ( ScrollableResults<Object> results = session.createSelectionQuery( "select t." + attribute + " from Temporals t", Object.class )
+					.setFetchSize( 1000 )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					if ( results.get() != null ) {
+						count++;
+					}
+				}
+			}
+			assertThat( count ).isEqualTo( rows );
+		} );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Entity(name="Temporals")
+	@Table(name="temporals")
+	public static class Temporals {
+		@Id
+		private Integer id;
+		private Date utilDate;
+		private java.sql.Date sqlDate;
+		private Instant instant;
+		private LocalDateTime localDateTime;
+		private OffsetDateTime offsetDateTime;
+
+		public Temporals() {
+		}
+
+		public Temporals(int id) {
+			final Instant value = DataGenerator.EPOCH.plus( Duration.ofSeconds( id ) );
+			this.id = id;
+			this.utilDate = Date.from( value );
+			this.sqlDate = java.sql.Date.valueOf( LocalDateTime.ofInstant( value, ZoneOffset.UTC ).toLocalDate() );
+			this.instant = value;
+			this.localDateTime = LocalDateTime.ofInstant( value, ZoneOffset.UTC );
+			this.offsetDateTime = value.atOffset( ZoneOffset.ofHours( 2 ) );
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package org.hibernate.test.liberty;
+
+import java.time.Instant;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/// An entity with a timestamp (`Instant`) `@Version`
+@Entity(name="TimestampVersioned")
+@Table(name="timestamp_versioned")
+public class TimestampVersioned implements Versioned {
+	@Id
+	private Integer id;
+	private int counter;
+	@Version
+	private Instant version;
+
+	public TimestampVersioned() {
+	}
+
+	public TimestampVersioned(Integer id) {
+		this.id = id;
+	}
+
+	@Override
+	public void increment() {
+		counter++;
+	}
+}
@@ -0,0 +1,7 @@
+package org.hibernate.test.liberty;
+
+/// A `@Version` entity with a counter to change, see [IntegerVersioned] and
+/// [TimestampVersioned]
+public interface Versioned {
+	void increment();
+}
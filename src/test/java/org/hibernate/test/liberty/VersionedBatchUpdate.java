@@ -0,0 +1,132 @@
+package org.hibernate.test.liberty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/// Flushes changes to `@Version` entities with JDBC batching, while still naming
+/// the entity which was concurrently modified when the optimistic lock check fails.
+///
+/// Hibernate batches versioned updates and deletes (`hibernate.jdbc.batch_versioned_data`,
+/// on by default) once a batch size is set, checking the update count of each statement
+/// in the batch - the SQL Server driver reports them accurately.  A failed check then
+/// only identifies the position in the batch though, not the entity.  So a session
+/// [Interceptor] records the ids and loaded versions of the versioned entities which
+/// are removed, or which Hibernate's own dirty check during the flush finds to be
+/// updated.  On failure the transaction is rolled back, releasing the locks taken by
+/// the statements already executed, and the versions are re-read in a new session.
+/// Entities whose row is gone or has a different version are reported by a
+/// [StaleObjectStateException] (the first, with any others
+/// [suppressed][Throwable#getSuppressed()]).
+///
+/// A batch size of `1` disables batching, for comparison.
+public class VersionedBatchUpdate {
+	private final SessionFactoryImplementor sessionFactory;
+	private final int batchSize;
+
+	public VersionedBatchUpdate(SessionFactoryImplementor sessionFactory, int batchSize) {
+		this.sessionFactory = sessionFactory;
+		this.batchSize = batchSize;
+	}
+
+	/// @param entities The number of dirty or removed versioned entities flushed
+	public record Result(int entities, Duration flush) {
+	}
+
+	private record Loaded(EntityPersister persister, Object id, Object version) {
+	}
+
+	/// Runs `work` in a transaction and flushes its changes
+	public Result update(Consumer<Session> work) {
+		final VersionedChanges changes = new VersionedChanges();
+		try ( Session session = sessionFactory.withOptions().interceptor( changes ).openSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				session.setJdbcBatchSize( batchSize );
+				work.accept( session );
+				final long start = System.nanoTime();
+				session.flush();
+				final Result result = new Result( changes.loaded.size(), Duration.ofNanos( System.nanoTime() - start ) );
+				transaction.commit();
+				return result;
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+		catch (RuntimeException e) {
+			if ( !OptimisticLocking.isOptimisticLockFailure( e ) ) {
+				throw e;
+			}
+			throw staleEntities( changes.loaded, e );
+		}
+	}
+
+	/// Records the versioned entities which are removed, or found dirty while flushing
+	private class VersionedChanges implements Interceptor {
+		private final List<Loaded> loaded = new ArrayList<>();
+
+		@Override
+		public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState, String[] propertyNames, Type[] types) {
+			record( entity, id, previousState );
+			return false;
+		}
+
+		@Override
+		public void onRemove(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+			record( entity, id, state );
+		}
+
+		private void record(Object entity, Object id, Object[] loadedState) {
+			final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( entity.getClass() );
+			if ( persister.isVersioned() && loadedState != null ) {
+				loaded.add( new Loaded( persister, id, loadedState[persister.getVersionProperty()] ) );
+			}
+		}
+	}
+
+	private RuntimeException staleEntities(List<Loaded> loaded, RuntimeException failure) {
+		final Map<EntityPersister, List<Loaded>> byPersister = new LinkedHashMap<>();
+		for ( Loaded entity : loaded ) {
+			byPersister.computeIfAbsent( entity.persister(), (persister) -> new ArrayList<>() ).add( entity );
+		}
+
+		final List<StaleObjectStateException> stale = new ArrayList<>();
+		sessionFactory.inStatelessSession( (session) -> byPersister.forEach( (persister, entities) -> {
+			final List<?> current = session.getMultiple(
+					persister.getMappedClass(),
+					entities.stream().map( Loaded::id ).toList()
+			);
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final Loaded entity = entities.get( i );
+				final Object row = current.get( i );
+				if ( row == null || !persister.getVersionJavaType().areEqual( entity.version(), persister.getVersion( row ) ) ) {
+					stale.add( new StaleObjectStateException( persister.getEntityName(), entity.id() ) );
+				}
+			}
+		} ) );
+
+		if ( stale.isEmpty() ) {
+			// e.g. the conflicting change was rolled back in the meantime
+			return failure;
+		}
+		final StaleObjectStateException first = stale.getFirst();
+		first.initCause( failure );
+		stale.subList( 1, stale.size() ).forEach( first::addSuppressed );
+		return first;
+	}
+}
@@ -0,0 +1,100 @@
+package org.hibernate.test.liberty;
+
+import java.util.Arrays;
+
+import org.hibernate.Session;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.cfg.JdbcSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests [VersionedBatchUpdate], and compares the flush time of many dirty `@Version`
+/// entities with and without JDBC batching, written to
+/// `build/benchmarks/versioned-batch-update.csv`.
+///
+/// Settings:
+/// * `liberty.versioned.entities` - number of dirty entities (10000)
+/// * `liberty.versioned.batch_sizes` - JDBC batch sizes, `1` being unbatched (1,50,500)
+@DomainModel(annotatedClasses = IntegerVersioned.class)
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.SHOW_SQL, value = "false"))
+@SessionFactory
+public class VersionedBatchUpdateTests {
+	@Test
+	void testBatchedUpdate(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).load( 10, IntegerVersioned::new );
+
+		final VersionedBatchUpdate.Result result = new VersionedBatchUpdate( factoryScope.getSessionFactory(), 4 ).update( VersionedBatchUpdateTests::incrementAll );
+		assertThat( result.entities() ).isEqualTo( 10 );
+
+		factoryScope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select version from IntegerVersioned", Integer.class ).list()
+		).hasSize( 10 ).containsOnly( 1 ) );
+	}
+
+	@Test
+	void testStaleEntityNamed(SessionFactoryScope factoryScope) {
+		new DataGenerator( factoryScope.getSessionFactory() ).load( 10, IntegerVersioned::new );
+
+		final VersionedBatchUpdate update = new VersionedBatchUpdate( factoryScope.getSessionFactory(), 4 );
+		assertThatThrownBy( () -> update.update( (session) -> {
+			incrementAll( session );
+			// a concurrent change to a row in the middle of the second batch
+			factoryScope.inTransaction( (other) -> other.find( IntegerVersioned.class, 6 ).increment() );
+		} ) )
+				.isInstanceOfSatisfying( StaleObjectStateException.class, (e) -> {
+					assertThat( e.getEntityName() ).isEqualTo( IntegerVersioned.class.getName() );
+					assertThat( e.getIdentifier() ).isEqualTo( 6 );
+					assertThat( e.getSuppressed() ).isEmpty();
+				} );
+
+		// rolled back, including the first batch
+		factoryScope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select version from IntegerVersioned where id <> 6", Integer.class ).list()
+		).containsOnly( 0 ) );
+	}
+
+	@Test
+	@Tag(Benchmarks.TAG)
+	void testFlushCost(SessionFactoryScope factoryScope) {
+		final int entities = Benchmarks.intValue( "liberty.versioned.entities", 10_000 );
+		new DataGenerator( factoryScope.getSessionFactory() ).load( entities, IntegerVersioned::new );
+
+		try ( var report = new BenchmarkReport( "versioned-batch-update", "batch_size", "entities", "flush_millis", "rows_per_sec" ) ) {
+			for ( int batchSize : Benchmarks.intList( "liberty.versioned.batch_sizes", "1,50,500" ) ) {
+				final VersionedBatchUpdate update = new VersionedBatchUpdate( factoryScope.getSessionFactory(), batchSize );
+				final long[] times = new long[Benchmarks.iterations()];
+				for ( int i = -1; i < times.length; i++ ) {
+					final VersionedBatchUpdate.Result result = update.update( VersionedBatchUpdateTests::incrementAll );
+					assertThat( result.entities() ).isEqualTo( entities );
+					if ( i >= 0 ) {
+						times[i] = result.flush().toNanos();
+					}
+				}
+				Arrays.sort( times );
+				final long median = Benchmarks.percentile( times, 50 );
+				report.row( batchSize, entities, Benchmarks.millis( median ), entities / ( median / 1_000_000_000d ) );
+			}
+		}
+	}
+
+	private static void incrementAll(Session session) {
+		session.createSelectionQuery( "from IntegerVersioned order by id", IntegerVersioned.class )
+				.list()
+				.forEach( Versioned::increment );
+	}
+
+	@AfterEach
+	void tearDown(SessionFactoryScope factoryScope) {
+		factoryScope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+}
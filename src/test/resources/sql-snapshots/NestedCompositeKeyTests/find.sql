@@ -0,0 +1,4 @@
+-- orm: 7.0.9.Final
+-- settings: defaults
+-- recorded: by hand, not yet against SQL Server; re-record with -Pliberty.sql_snapshots.record=true
+select s1_0.level1Detail,s1_0.level2Detail,s1_0.level3Detail1,s1_0.level3Detail2,s1_0.name from somethings s1_0 where s1_0.level1Detail=? and s1_0.level2Detail=? and s1_0.level3Detail1=? and s1_0.level3Detail2=?
@@ -0,0 +1,4 @@
+-- orm: 7.0.9.Final
+-- settings: hibernate.jpa.compliance.query=false
+-- recorded: by hand, not yet against SQL Server; re-record with -Pliberty.sql_snapshots.record=true
+select b1_0.id,b1_0.author,b1_0.isbn,b1_0.publishDate,b1_0.title from books b1_0 where b1_0.id=dbo.multiplied_number(2)
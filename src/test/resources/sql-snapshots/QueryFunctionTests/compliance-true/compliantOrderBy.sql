@@ -0,0 +1,5 @@
+-- orm: 7.0.9.Final
+-- settings: hibernate.jpa.compliance.query=true
+-- recorded: by hand, not yet against SQL Server; re-record with -Pliberty.sql_snapshots.record=true
+select b1_0.id,b1_0.author,b1_0.isbn,b1_0.publishDate,b1_0.title from books b1_0 order by dbo.constant_number()
+select b1_0.id,b1_0.author,b1_0.isbn,b1_0.publishDate,b1_0.title from books b1_0 order by dbo.multiplied_number(2)
@@ -0,0 +1,5 @@
+-- orm: 7.0.9.Final
+-- settings: hibernate.jpa.compliance.query=false
+-- recorded: by hand, not yet against SQL Server; re-record with -Pliberty.sql_snapshots.record=true
+select count(p1_0.id) from persons p1_0 group by p1_0.firstName,p1_0.lastName
+select count(p1_0.id) from persons p1_0 group by p1_0.firstName,p1_0.lastName
@@ -0,0 +1,4 @@
+-- orm: 7.0.9.Final
+-- settings: hibernate.jpa.compliance.query=false
+-- recorded: by hand, not yet against SQL Server; re-record with -Pliberty.sql_snapshots.record=true
+select p1_0.dob,p1_0.lastName,count(*) from persons p1_0 group by p1_0.dob,p1_0.lastName having p1_0.dob>?
@@ -0,0 +1,4 @@
+-- orm: 7.0.9.Final
+-- settings: defaults
+-- recorded: by hand, not yet against SQL Server; re-record with -Pliberty.sql_snapshots.record=true
+insert into things (name,id) values (?,?)